@@ -0,0 +1,88 @@
+package com.eventManagement.Events.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableScheduling
+public class DataSourceConfig {
+
+    @Value("${app.datasource.replicas:}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replica-strategy:ROUND_ROBIN}")
+    private ReadWriteRoutingDataSource.Strategy replicaStrategy;
+
+    @Value("${app.datasource.read-your-writes-ms:2000}")
+    private long readYourWritesMs;
+
+    // ✅ Primary pool plus one pool per configured replica (replicas share the primary's credentials)
+    @Bean(destroyMethod = "close")
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties properties,
+                                                        StringRedisTemplate stringRedisTemplate,
+                                                        ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        HikariDataSource primary = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url.trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+
+        return new ReadWriteRoutingDataSource(primary, replicas, replicaStrategy,
+                new ReadYourWritesTracker(stringRedisTemplate, readYourWritesMs),
+                () -> readFromCacheOnly(entityManagerFactory.getIfAvailable()));
+    }
+
+    // A replica may still return rows a write on the primary has just replaced. Put into the (shared for
+    // 30 minutes) second-level cache right after that write evicted them, they would be served to everyone,
+    // so a session reading from a replica may use the cache but not fill it.
+    private static void readFromCacheOnly(EntityManagerFactory entityManagerFactory) {
+        if (entityManagerFactory == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.getResource(entityManagerFactory) instanceof EntityManagerHolder holder) {
+            holder.getEntityManager().unwrap(Session.class).setCacheMode(CacheMode.GET);
+        }
+    }
+
+    // ✅ Lazy proxy defers fetching the real connection until the first statement,
+    // by then the transaction's readOnly flag is set and routing can see it
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,186 @@
+package com.eventManagement.Events.Config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Sends connections of read-only transactions to a healthy replica and everything else to the primary.
+// Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known when the connection is fetched.
+// Before a replica connection is handed out, onReplicaRead runs for the current transaction (DataSourceConfig
+// uses it to keep rows read from a lagging replica out of the second-level cache).
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadWriteRoutingDataSource.class);
+
+    public enum Strategy { ROUND_ROBIN, LEAST_LOADED }
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Strategy strategy;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Runnable onReplicaRead;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final AtomicLong primaryConnections = new AtomicLong();
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                      Strategy strategy, ReadYourWritesTracker readYourWritesTracker,
+                                      Runnable onReplicaRead) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>();
+        for (HikariDataSource replica : replicas) {
+            this.replicas.add(new Replica(replica));
+        }
+        this.strategy = strategy;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.onReplicaRead = onReplicaRead;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        if (readOnly && !replicas.isEmpty() && !readYourWritesTracker.isPinnedToPrimary()) {
+            // Try each healthy replica at most once, then fail over to the primary
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                Replica replica = pickReplica();
+                if (replica == null) {
+                    break;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    replica.routed.incrementAndGet();
+                    onReplicaRead.run();
+                    return connection;
+                } catch (SQLException e) {
+                    markDown(replica, e);
+                }
+            }
+        }
+
+        if (!readOnly && !replicas.isEmpty() && TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Reads right after this write commits should see it, so pin the caller to the primary for a while
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                private final String clientKey = readYourWritesTracker.currentClientKey();
+
+                @Override
+                public void afterCommit() {
+                    readYourWritesTracker.recordWrite(clientKey);
+                }
+            });
+        }
+        primaryConnections.incrementAndGet();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    private Replica pickReplica() {
+        if (strategy == Strategy.LEAST_LOADED) {
+            Replica best = null;
+            int bestActive = Integer.MAX_VALUE;
+            for (Replica replica : replicas) {
+                if (!replica.healthy) {
+                    continue;
+                }
+                HikariPoolMXBean pool = replica.dataSource.getHikariPoolMXBean();
+                int active = pool != null ? pool.getActiveConnections() : 0;
+                if (active < bestActive) {
+                    best = replica;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void markDown(Replica replica, Exception e) {
+        if (replica.healthy) {
+            log.warn("Replica {} marked unhealthy, reads fail over: {}", replica.dataSource.getPoolName(), e.getMessage());
+        }
+        replica.healthy = false;
+    }
+
+    // Brings recovered replicas back and takes dead ones out of rotation
+    @Scheduled(fixedDelayString = "${app.datasource.health-check-ms:5000}")
+    public void checkReplicaHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                boolean valid = connection.isValid(2);
+                if (valid && !replica.healthy) {
+                    log.info("Replica {} is healthy again", replica.dataSource.getPoolName());
+                }
+                if (!valid) {
+                    markDown(replica, new SQLException("validation failed"));
+                } else {
+                    replica.healthy = true;
+                }
+            } catch (SQLException e) {
+                markDown(replica, e);
+            }
+        }
+    }
+
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("strategy", strategy);
+        status.put("primaryConnections", primaryConnections.get());
+        List<Map<String, Object>> replicaStatus = new ArrayList<>();
+        for (Replica replica : replicas) {
+            HikariPoolMXBean pool = replica.dataSource.getHikariPoolMXBean();
+            replicaStatus.add(Map.of(
+                    "pool", replica.dataSource.getPoolName(),
+                    "healthy", replica.healthy,
+                    "routedConnections", replica.routed.get(),
+                    "activeConnections", pool != null ? pool.getActiveConnections() : 0
+            ));
+        }
+        status.put("replicas", replicaStatus);
+        return status;
+    }
+
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+        primary.close();
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        private final AtomicLong routed = new AtomicLong();
+        private volatile boolean healthy = true;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
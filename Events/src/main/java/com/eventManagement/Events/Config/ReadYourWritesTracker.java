@@ -0,0 +1,66 @@
+package com.eventManagement.Events.Config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+// Remembers who wrote recently so their next reads go to the primary instead of a possibly lagging replica.
+// Kept in Redis with a TTL of the window, so the pin holds whichever instance serves the next request.
+public class ReadYourWritesTracker {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadYourWritesTracker.class);
+    private static final String KEY_PREFIX = "ryw:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long windowMs;
+
+    public ReadYourWritesTracker(StringRedisTemplate stringRedisTemplate, long windowMs) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.windowMs = windowMs;
+    }
+
+    public void recordWrite(String clientKey) {
+        if (clientKey == null || windowMs <= 0) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + clientKey, "1", Duration.ofMillis(windowMs));
+        } catch (Exception e) {
+            log.debug("Read-your-writes pin for {} not stored: {}", clientKey, e.getMessage());
+        }
+    }
+
+    public boolean isPinnedToPrimary() {
+        String clientKey = currentClientKey();
+        if (clientKey == null || windowMs <= 0) {
+            return false;
+        }
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + clientKey));
+        } catch (Exception e) {
+            // Without Redis a recent write cannot be ruled out; the primary is always current
+            return true;
+        }
+    }
+
+    // Logged-in user if any, otherwise the client address of the current request
+    public String currentClientKey() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            return "user:" + auth.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "ip:" + servletAttributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
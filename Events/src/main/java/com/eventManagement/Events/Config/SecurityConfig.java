@@ -1,10 +1,14 @@
 package com.eventManagement.Events.Config;
 
+import com.eventManagement.Events.Service.AuditLogService;
 import com.eventManagement.Events.Service.CustomUserDetailsService;
+import com.eventManagement.Events.Service.RefreshTokenService;
+import com.eventManagement.Events.Utills.AccessLogFilter;
 import com.eventManagement.Events.Utills.JwtAuthFilter;
 import com.eventManagement.Events.Utills.JwtUtil;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -21,10 +25,15 @@ public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final AuditLogService auditLogService;
+    private final RefreshTokenService refreshTokenService;
 
-    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtUtil jwtUtil) {
+    public SecurityConfig(CustomUserDetailsService userDetailsService, JwtUtil jwtUtil,
+                          AuditLogService auditLogService, RefreshTokenService refreshTokenService) {
         this.userDetailsService = userDetailsService;
         this.jwtUtil = jwtUtil;
+        this.auditLogService = auditLogService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     // ✅ Global CORS configuration for port 5173
@@ -45,7 +54,8 @@ public class SecurityConfig {
     // ✅ Security Filter Chain
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        JwtAuthFilter jwtFilter = new JwtAuthFilter(jwtUtil, userDetailsService);
+        JwtAuthFilter jwtFilter = new JwtAuthFilter(jwtUtil, userDetailsService, refreshTokenService);
+        AccessLogFilter accessLogFilter = new AccessLogFilter(auditLogService);
 
         http
                 .cors(cors -> {}) // use global CORS config
@@ -56,13 +66,20 @@ public class SecurityConfig {
                         .requestMatchers("/h2-console/**").permitAll()
                         .requestMatchers("/api/events/**").permitAll()
                         .requestMatchers("/api/eventcards/**").permitAll() // ✅ all methods allowed
+                        .requestMatchers("/api/catalog/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/archive/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/images/**").permitAll()
                         .requestMatchers("/api/events/create").hasAnyRole("ADMIN", "ORGANIZER")
                         .requestMatchers("/api/tickets/**").hasRole("ATTENDEE")
+                        .requestMatchers("/api/organizer/**").hasAnyRole("ORGANIZER", "ADMIN")
+                        .requestMatchers("/api/checkin/**").hasAnyRole("ORGANIZER", "ADMIN")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/users/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 .headers(headers -> headers.frameOptions(frame -> frame.sameOrigin()))
-                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(accessLogFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,71 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Service.AnalyticsService;
+import com.eventManagement.Events.Utills.CustomUserDetails;
+import com.eventManagement.Events.Utills.Role;
+import com.eventManagement.Events.Utills.RollupGranularity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/organizer/analytics")
+@CrossOrigin(origins = "http://localhost:5173")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    // Sales over time, revenue per tier and sell-through of one event - its ORGANIZER, ADMIN
+    @GetMapping("/events/{eventId}")
+    public ResponseEntity<?> getEventAnalytics(@PathVariable Long eventId,
+                                               @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+                                               @RequestParam(required = false) Instant from,
+                                               @RequestParam(required = false) Instant to,
+                                               @AuthenticationPrincipal CustomUserDetails user) {
+        Optional<String> organizer = analyticsService.getEventOrganizer(eventId);
+        if (organizer.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (!canView(organizer.get(), user)) {
+            return ResponseEntity.status(403).body("Not your event");
+        }
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : defaultFrom(granularity, end);
+        return ResponseEntity.ok(analyticsService.getEventAnalytics(eventId, granularity, start, end));
+    }
+
+    // Sales over time across all events of an organizer (defaults to the caller's organization)
+    @GetMapping
+    public ResponseEntity<?> getOrganizerAnalytics(@RequestParam(required = false) String organizer,
+                                                   @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+                                                   @RequestParam(required = false) Instant from,
+                                                   @RequestParam(required = false) Instant to,
+                                                   @AuthenticationPrincipal CustomUserDetails user) {
+        String name = organizer != null ? organizer : user.getOrganization();
+        if (name == null) {
+            return ResponseEntity.badRequest().body("organizer is required");
+        }
+        if (!canView(name, user)) {
+            return ResponseEntity.status(403).body("Only admins can view other organizers");
+        }
+        Instant end = to != null ? to : Instant.now();
+        Instant start = from != null ? from : defaultFrom(granularity, end);
+        return ResponseEntity.ok(analyticsService.getOrganizerAnalytics(name, granularity, start, end));
+    }
+
+    // Organizers see their own organization only, admins see everyone
+    private static boolean canView(String organizer, CustomUserDetails user) {
+        return user.hasRole(Role.ADMIN) || organizer.equals(user.getOrganization());
+    }
+
+    private static Instant defaultFrom(RollupGranularity granularity, Instant end) {
+        return granularity.getDefaultRange() == null ? Instant.EPOCH : end.minus(granularity.getDefaultRange());
+    }
+}
@@ -0,0 +1,94 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Service.ArchiveService;
+import com.eventManagement.Events.Utills.DomainEvent;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+// Past events, moved out of the live tables by ArchiveService
+@RestController
+@RequestMapping("/api/archive")
+@CrossOrigin(origins = "http://localhost:5173")
+public class ArchiveController {
+
+    private static final int MAX_WINDOW_DAYS = 366;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final ArchiveService archiveService;
+
+    public ArchiveController(ArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    // Archived events that ended in [from, to], most recent first
+    @GetMapping("/events")
+    public ResponseEntity<?> getEvents(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                       @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                       @RequestParam(defaultValue = "0") int page,
+                                       @RequestParam(defaultValue = "50") int size) {
+        return list(DomainEvent.EVENT, from, to, page, size);
+    }
+
+    @GetMapping("/eventcards")
+    public ResponseEntity<?> getEventCards(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                           @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                           @RequestParam(defaultValue = "0") int page,
+                                           @RequestParam(defaultValue = "50") int size) {
+        return list(DomainEvent.EVENT_CARD, from, to, page, size);
+    }
+
+    // Full record as it was when archived
+    @GetMapping("/events/{id}")
+    public ResponseEntity<?> getEvent(@PathVariable Long id,
+                                      @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return record(DomainEvent.EVENT, id, acceptEncoding);
+    }
+
+    @GetMapping("/eventcards/{id}")
+    public ResponseEntity<?> getEventCard(@PathVariable Long id,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return record(DomainEvent.EVENT_CARD, id, acceptEncoding);
+    }
+
+    // Record count and compression ratio
+    @GetMapping("/stats")
+    public Map<String, Object> getStats() {
+        return archiveService.getStats();
+    }
+
+    private ResponseEntity<?> list(String sourceType, LocalDate from, LocalDate to, int page, int size) {
+        if (to.isBefore(from)) {
+            return ResponseEntity.badRequest().body("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_WINDOW_DAYS) {
+            return ResponseEntity.badRequest().body("Window is limited to " + MAX_WINDOW_DAYS + " days");
+        }
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            return ResponseEntity.badRequest().body("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        return ResponseEntity.ok(archiveService.getSummaries(sourceType, from, to, page, size));
+    }
+
+    // Records are stored gzip-compressed; clients that accept gzip get the stored bytes unchanged
+    private ResponseEntity<?> record(String sourceType, Long id, String acceptEncoding) {
+        try {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .body(archiveService.getCompressed(sourceType, id));
+            }
+            return response.body(archiveService.getJson(sourceType, id));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
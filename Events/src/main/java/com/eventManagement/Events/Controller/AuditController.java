@@ -0,0 +1,24 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Service.AuditLogService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/audit")
+@CrossOrigin(origins = "http://localhost:5173")
+public class AuditController {
+
+    private final AuditLogService auditLogService;
+
+    public AuditController(AuditLogService auditLogService) {
+        this.auditLogService = auditLogService;
+    }
+
+    // Records written/dropped, ring backlog and the current segment file - ADMIN only
+    @GetMapping("/stats")
+    public Map<String, Object> getStats() {
+        return auditLogService.getStats();
+    }
+}
@@ -2,12 +2,18 @@ package com.eventManagement.Events.Controller;
 
 import com.eventManagement.Events.Entity.User;
 import com.eventManagement.Events.Repository.UserRepository;
+import com.eventManagement.Events.Service.AuditLogService;
+import com.eventManagement.Events.Service.RefreshTokenService;
+import com.eventManagement.Events.Service.RefreshTokenService.RefreshOutcome;
+import com.eventManagement.Events.Service.RefreshTokenService.RefreshResult;
+import com.eventManagement.Events.Service.RefreshTokenService.Session;
+import com.eventManagement.Events.Service.UserService;
 import com.eventManagement.Events.Utills.JwtUtil;
 import com.eventManagement.Events.Utills.Role;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.HashSet;
@@ -20,18 +26,24 @@ import java.util.Set;
 public class AuthController {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final UserService userService;
     private final AuthenticationManager authenticationManager;
     private final JwtUtil jwtUtil;
+    private final AuditLogService auditLogService;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthController(UserRepository userRepository,
-                          PasswordEncoder passwordEncoder,
+                          UserService userService,
                           AuthenticationManager authenticationManager,
-                          JwtUtil jwtUtil) {
+                          JwtUtil jwtUtil,
+                          AuditLogService auditLogService,
+                          RefreshTokenService refreshTokenService) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.userService = userService;
         this.authenticationManager = authenticationManager;
         this.jwtUtil = jwtUtil;
+        this.auditLogService = auditLogService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @PostMapping("/register")
@@ -43,26 +55,27 @@ public class AuthController {
         String roleStr = body.get("role");
         String organization = body.get("organization");
         String profilePic = body.get("profilePic"); // optional URL (frontend can send null or empty)
+        String locale = body.get("locale"); // optional, e.g. "es"; defaults to English templates
 
         if (userRepository.existsByEmail(email)) {
+            auditLogService.audit("auth.register", email, null, AuditLogService.FAILURE);
             return ResponseEntity.badRequest().body("Email already exists");
         }
 
-        // Encode password
-        String hashedPassword = passwordEncoder.encode(rawPassword);
-
-        // Create user
+        // Create user (UserService encodes the password)
         User user = new User();
         user.setName(name);
         user.setEmail(email);
-        user.setPassword(hashedPassword);
+        user.setPassword(rawPassword);
         user.setPhone(phone);
+        user.setLocale(locale);
 
         // Assign role properly
         Set<Role> roles = new HashSet<>();
         try {
             roles.add(Role.valueOf(roleStr.toUpperCase()));
         } catch (IllegalArgumentException e) {
+            auditLogService.audit("auth.register", email, null, AuditLogService.FAILURE);
             return ResponseEntity.badRequest().body("Invalid role: " + roleStr);
         }
         user.setRoles(roles);
@@ -80,7 +93,8 @@ public class AuthController {
             user.setProfilePic(null);
         }
 
-        userRepository.save(user);
+        User saved = userService.createUser(user);
+        auditLogService.audit("auth.register", email, "user:" + saved.getId(), AuditLogService.SUCCESS);
 
         return ResponseEntity.ok("Registered successfully");
     }
@@ -91,7 +105,12 @@ public class AuthController {
         String password = body.get("password");
 
         // Authenticate user
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email, password));
+        try {
+            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email, password));
+        } catch (AuthenticationException e) {
+            auditLogService.audit("auth.login", email, null, AuditLogService.FAILURE);
+            throw e;
+        }
 
         // Fetch the user entity
         User user = userRepository.findByEmail(email)
@@ -100,12 +119,43 @@ public class AuthController {
         // ✅ Use getPrimaryRole() to get a single role
         String role = user.getPrimaryRole().name();
 
-        // ✅ Include role inside the token
-        final String token = jwtUtil.generateToken(email, role);
+        // ✅ Include role inside the token; the refresh token renews it without another password check
+        Session session = refreshTokenService.startSession(email, role);
+        final String token = jwtUtil.generateToken(email, role, session.familyId());
+        auditLogService.audit("auth.login", email, "user:" + user.getId(), AuditLogService.SUCCESS);
 
         return ResponseEntity.ok(Map.of(
                 "token", token,
+                "refreshToken", session.refreshToken(),
                 "role", role
         ));
     }
+
+    // New access token and next refresh token; the presented refresh token is used up
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody Map<String, String> body) {
+        RefreshResult result = refreshTokenService.rotate(body.get("refreshToken"));
+        if (result.outcome() != RefreshOutcome.ROTATED) {
+            auditLogService.audit(result.outcome() == RefreshOutcome.REUSED ? "auth.refresh.reuse" : "auth.refresh",
+                    null, null, AuditLogService.FAILURE);
+            return ResponseEntity.status(401).body("Invalid refresh token, please log in again");
+        }
+
+        Session session = result.session();
+        final String token = jwtUtil.generateToken(session.email(), session.role(), session.familyId());
+        auditLogService.audit("auth.refresh", session.email(), null, AuditLogService.SUCCESS);
+
+        return ResponseEntity.ok(Map.of(
+                "token", token,
+                "refreshToken", session.refreshToken(),
+                "role", session.role()
+        ));
+    }
+
+    // Ends the session: refresh token and outstanding access tokens stop working
+    @PostMapping("/logout")
+    public ResponseEntity<?> logout(@RequestBody Map<String, String> body) {
+        refreshTokenService.revoke(body.get("refreshToken"));
+        return ResponseEntity.ok("Logged out");
+    }
 }
@@ -0,0 +1,64 @@
+package com.eventManagement.Events.Controller;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/cache-stats")
+@CrossOrigin(origins = "http://localhost:5173")
+public class CacheStatsController {
+
+    private final Statistics statistics;
+
+    public CacheStatsController(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // Hit ratio per second-level cache region plus query cache totals - ADMIN only
+    @GetMapping
+    public Map<String, Object> getCacheStats() {
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, Map.of(
+                        "hits", region.getHitCount(),
+                        "misses", region.getMissCount(),
+                        "puts", region.getPutCount(),
+                        "entriesInMemory", region.getElementCountInMemory(),
+                        "hitRatio", hitRatio(region.getHitCount(), region.getMissCount())
+                ));
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("regions", regions);
+        result.put("queryCache", Map.of(
+                "hits", statistics.getQueryCacheHitCount(),
+                "misses", statistics.getQueryCacheMissCount(),
+                "puts", statistics.getQueryCachePutCount(),
+                "hitRatio", hitRatio(statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount())
+        ));
+        // Statements that actually reached the database since startup
+        result.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        result.put("entityLoadCount", statistics.getEntityLoadCount());
+        return result;
+    }
+
+    // Reset counters, e.g. before a load test
+    @DeleteMapping
+    public void resetCacheStats() {
+        statistics.clear();
+    }
+
+    private static double hitRatio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+}
@@ -0,0 +1,65 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Entity.CatalogEntry;
+import com.eventManagement.Events.Service.CatalogService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/catalog")
+@CrossOrigin(origins = "http://localhost:5173")
+public class CatalogController {
+
+    private static final int MAX_CALENDAR_DAYS = 366;
+
+    private final CatalogService catalogService;
+
+    public CatalogController(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    // Organizer events and catalog cards together, ordered by start date
+    @GetMapping
+    public List<CatalogEntry> getCatalog(@RequestParam(required = false) String category) {
+        return catalogService.getCatalog(category);
+    }
+
+    // "What's on": entries running at any point between from and to (inclusive), by start date
+    @GetMapping("/calendar")
+    public ResponseEntity<?> getCalendar(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                         @RequestParam(required = false) String category) {
+        String error = validateWindow(from, to);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(error);
+        }
+        return ResponseEntity.ok(catalogService.getCalendar(from, to, category));
+    }
+
+    // Per-day number of running entries for the calendar view, e.g. {"2025-05-01": 3, ...}
+    @GetMapping("/calendar/histogram")
+    public ResponseEntity<?> getCalendarHistogram(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                  @RequestParam(required = false) String category) {
+        String error = validateWindow(from, to);
+        if (error != null) {
+            return ResponseEntity.badRequest().body(error);
+        }
+        return ResponseEntity.ok(catalogService.getDailyCounts(from, to, category));
+    }
+
+    private static String validateWindow(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            return "'to' must not be before 'from'";
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_CALENDAR_DAYS) {
+            return "Window is limited to " + MAX_CALENDAR_DAYS + " days";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,65 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Service.CheckInService;
+import com.eventManagement.Events.Service.CheckInService.Scan;
+import com.eventManagement.Events.Service.CheckInService.ScanResult;
+import com.eventManagement.Events.Utills.CheckInStatus;
+import com.eventManagement.Events.Utills.CustomUserDetails;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.*;
+
+@RestController
+@RequestMapping("/api/checkin")
+@CrossOrigin(origins = "http://localhost:5173")
+public class CheckInController {
+
+    private final CheckInService checkInService;
+    private final int maxBatch;
+
+    public CheckInController(CheckInService checkInService, @Value("${app.checkin.max-batch:1000}") int maxBatch) {
+        this.checkInService = checkInService;
+        this.maxBatch = maxBatch;
+    }
+
+    // Batch of door scans - ORGANIZER of the event, ADMIN. Body: { "scans": [ { "token": "...", "scannedAt": 1700000000000 } ] }
+    @PostMapping("/events/{eventId}/scans")
+    public ResponseEntity<?> checkIn(@PathVariable Long eventId,
+                                     @RequestBody Map<String, List<Scan>> body,
+                                     @AuthenticationPrincipal CustomUserDetails user) {
+        List<Scan> scans = body.getOrDefault("scans", List.of());
+        if (scans.size() > maxBatch) {
+            return ResponseEntity.badRequest().body("At most " + maxBatch + " scans per batch");
+        }
+        try {
+            List<ScanResult> results = checkInService.checkIn(eventId, scans, user);
+            Map<CheckInStatus, Integer> counts = new EnumMap<>(CheckInStatus.class);
+            results.forEach(r -> counts.merge(r.status(), 1, Integer::sum));
+
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("counts", counts);
+            response.put("results", results);
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Per-event HMAC key so scanners can verify tickets while offline
+    @GetMapping("/events/{eventId}/key")
+    public ResponseEntity<?> getScannerKey(@PathVariable Long eventId, @AuthenticationPrincipal CustomUserDetails user) {
+        try {
+            byte[] key = checkInService.getScannerKey(eventId, user);
+            return ResponseEntity.ok(Map.of(
+                    "eventId", eventId,
+                    "algorithm", "HmacSHA256, first 16 bytes",
+                    "key", Base64.getEncoder().encodeToString(key)
+            ));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
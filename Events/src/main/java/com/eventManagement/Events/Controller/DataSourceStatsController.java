@@ -0,0 +1,24 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Config.ReadWriteRoutingDataSource;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/datasources")
+@CrossOrigin(origins = "http://localhost:5173")
+public class DataSourceStatsController {
+
+    private final ReadWriteRoutingDataSource routingDataSource;
+
+    public DataSourceStatsController(ReadWriteRoutingDataSource routingDataSource) {
+        this.routingDataSource = routingDataSource;
+    }
+
+    // Replica health and how many connections went to primary vs each replica - ADMIN only
+    @GetMapping
+    public Map<String, Object> getStatus() {
+        return routingDataSource.getStatus();
+    }
+}
@@ -6,18 +6,31 @@ package com.eventManagement.Events.Controller;
 
 import com.eventManagement.Events.Entity.EventCards;
 import com.eventManagement.Events.Service.EventCardsService;
+import com.eventManagement.Events.Service.LeaderboardService;
+import com.eventManagement.Events.Service.SimilarEventsService;
+import com.eventManagement.Events.Service.SimilarEventsService.SimilarEvent;
+import com.eventManagement.Events.Utills.LeaderboardType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
         import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/eventcards")
 @CrossOrigin(origins = "http://localhost:3000")
 public class EventCardsController {
 
+    private static final int MAX_TOP = 100;
+
     private final EventCardsService eventCardsService;
+    private final SimilarEventsService similarEventsService;
+    private final LeaderboardService leaderboardService;
 
-    public EventCardsController(EventCardsService eventCardsService) {
+    public EventCardsController(EventCardsService eventCardsService, SimilarEventsService similarEventsService,
+                                LeaderboardService leaderboardService) {
         this.eventCardsService = eventCardsService;
+        this.similarEventsService = similarEventsService;
+        this.leaderboardService = leaderboardService;
     }
 
     @GetMapping
@@ -29,4 +42,24 @@ public class EventCardsController {
     public EventCards create(@RequestBody EventCards eventCard) {
         return eventCardsService.save(eventCard);
     }
+
+    // "You may also like": precomputed neighbours, most similar first
+    @GetMapping("/{id}/similar")
+    public List<SimilarEvent> getSimilar(@PathVariable Long id, @RequestParam(defaultValue = "10") int limit) {
+        return similarEventsService.getSimilar(id, Math.max(0, limit));
+    }
+
+    // Featured events: by=rating|attendees|trending, optionally within one category
+    @GetMapping("/top")
+    public ResponseEntity<?> getTop(@RequestParam(defaultValue = "rating") String by,
+                                    @RequestParam(required = false) String category,
+                                    @RequestParam(defaultValue = "10") int limit) {
+        LeaderboardType type;
+        try {
+            type = LeaderboardType.valueOf(by.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("by must be one of rating, attendees, trending");
+        }
+        return ResponseEntity.ok(leaderboardService.getTop(type, category, Math.max(0, Math.min(limit, MAX_TOP))));
+    }
 }
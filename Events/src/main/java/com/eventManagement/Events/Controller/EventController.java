@@ -1,11 +1,21 @@
 package com.eventManagement.Events.Controller;
 
 import com.eventManagement.Events.Entity.Event;
-import com.eventManagement.Events.Repository.EventRepository;
+import com.eventManagement.Events.Entity.TicketTier;
+import com.eventManagement.Events.Service.AuditLogService;
+import com.eventManagement.Events.Service.EventService;
+import com.eventManagement.Events.Service.PricingService;
+import com.eventManagement.Events.Service.TicketTierService;
+import com.eventManagement.Events.Utills.CustomUserDetails;
+import com.eventManagement.Events.Utills.DemandSignal;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/events")
@@ -13,64 +23,92 @@ import java.util.List;
 public class EventController {
 
     @Autowired
-    private EventRepository eventRepository;
+    private EventService eventService;
+
+    @Autowired
+    private TicketTierService ticketTierService;
+
+    @Autowired
+    private AuditLogService auditLogService;
+
+    @Autowired
+    private PricingService pricingService;
+
+    @Value("${app.batch.max-ids:200}")
+    private int maxBatchIds;
 
     // Create event - ADMIN, ORGANIZER
     @PostMapping("/create")
     public Event createEvent(@RequestBody Event event) {
-        // Optional: if ticketTiers JSON exists, set default price
-        if (event.getTicketTiers() != null && !event.getTicketTiers().isEmpty()) {
-            try {
-                // Example: parse JSON to get first tier price
-                // Adjust parsing logic based on your frontend format
-                // JSONArray tiers = new JSONArray(event.getTicketTiers());
-                // event.setPrice(tiers.getJSONObject(0).getDouble("price"));
-            } catch (Exception e) {
-                // fallback
-            }
-        }
-        return eventRepository.save(event);
+        Event saved = eventService.create(event);
+        auditLogService.audit("event.create", "event:" + saved.getId(), AuditLogService.SUCCESS);
+        return saved;
     }
 
     // Get all events
     @GetMapping
     public List<Event> getAllEvents() {
-        return eventRepository.findAll();
+        return eventService.getAll();
+    }
+
+    // Events whose cheapest tier falls inside [min, max], cheapest first
+    @GetMapping("/price-range")
+    public List<Event> getEventsInPriceRange(@RequestParam double min, @RequestParam double max) {
+        return ticketTierService.getEventsInPriceRange(min, max);
     }
 
-    // Get event by ID
+    // Several events in one request, e.g. /api/events/batch?ids=1,2,3
+    @GetMapping("/batch")
+    public ResponseEntity<?> getEventsByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > maxBatchIds) {
+            return ResponseEntity.badRequest().body("At most " + maxBatchIds + " ids per request");
+        }
+        return ResponseEntity.ok(eventService.getByIds(ids));
+    }
+
+    // Get event by ID. Only signed-in views count as demand; anonymous ones are too easy to inflate.
     @GetMapping("/{id}")
-    public Event getEventById(@PathVariable Long id) {
-        return eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
+    public Event getEventById(@PathVariable Long id, @AuthenticationPrincipal CustomUserDetails user) {
+        Event event = eventService.getById(id);
+        if (user != null) {
+            pricingService.recordDemand(id, DemandSignal.VIEW);
+        }
+        return event;
     }
 
     // Update event
     @PutMapping("/{id}")
     public Event updateEvent(@PathVariable Long id, @RequestBody Event updatedEvent) {
-        Event event = eventRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
-
-        event.setName(updatedEvent.getName());
-        event.setDescription(updatedEvent.getDescription());
-        event.setCategory(updatedEvent.getCategory());
-        event.setStartDate(updatedEvent.getStartDate());
-        event.setEndDate(updatedEvent.getEndDate());
-        event.setLocation(updatedEvent.getLocation());
-        event.setCapacity(updatedEvent.getCapacity());
-        event.setTicketTiers(updatedEvent.getTicketTiers());
-        event.setPrice(updatedEvent.getPrice());
-        event.setImage(updatedEvent.getImage());
-        event.setAgenda(updatedEvent.getAgenda());
-        event.setOrganizer(updatedEvent.getOrganizer());
-
-        return eventRepository.save(event);
+        Event saved = eventService.update(id, updatedEvent);
+        auditLogService.audit("event.update", "event:" + id, AuditLogService.SUCCESS);
+        return saved;
+    }
+
+    // Get ticket tiers of an event, cheapest first
+    @GetMapping("/{id}/tiers")
+    public List<TicketTier> getTiers(@PathVariable Long id) {
+        return ticketTierService.getTiers(id);
+    }
+
+    // What each tier costs right now; differs from the tier price while demand pricing is active
+    @GetMapping("/{id}/prices")
+    public Map<String, Object> getPrices(@PathVariable Long id) {
+        return pricingService.getPrices(id);
+    }
+
+    // Cheapest tier that still has tickets left
+    @GetMapping("/{id}/tiers/cheapest")
+    public ResponseEntity<TicketTier> getCheapestAvailableTier(@PathVariable Long id) {
+        return ticketTierService.getCheapestAvailable(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
     }
 
     // Delete event
     @DeleteMapping("/{id}")
     public String deleteEvent(@PathVariable Long id) {
-        eventRepository.deleteById(id);
+        eventService.delete(id);
+        auditLogService.audit("event.delete", "event:" + id, AuditLogService.SUCCESS);
         return "Event deleted";
     }
 }
@@ -0,0 +1,169 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Service.ImageStorageService;
+import com.eventManagement.Events.Service.ImageStorageService.StoredImage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/images")
+@CrossOrigin(origins = "http://localhost:5173")
+public class ImageController {
+
+    // Content-addressed URLs never change content, so browsers and CDNs may keep them for a year
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+    // ...except a variant URL answered with the original while the variant is generated
+    private static final String CACHE_CONTROL_FALLBACK = "no-cache";
+
+    // Tomcat request attributes for sendfile (kernel zero-copy from file to socket)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ImageStorageService imageStorageService;
+
+    public ImageController(ImageStorageService imageStorageService) {
+        this.imageStorageService = imageStorageService;
+    }
+
+    // Upload a banner / profile picture; use the returned url for Event.image or User.profilePic
+    @PostMapping
+    public ResponseEntity<?> upload(@RequestParam("file") MultipartFile file) {
+        try {
+            StoredImage image = imageStorageService.store(file);
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("hash", image.hash());
+            body.put("contentType", image.contentType());
+            body.put("size", image.size());
+            body.put("url", "/api/images/" + image.hash());
+            Map<String, String> variants = new LinkedHashMap<>();
+            for (String variant : ImageStorageService.VARIANTS.keySet()) {
+                variants.put(variant, "/api/images/" + image.hash() + "/" + variant);
+            }
+            body.put("variants", variants);
+            return ResponseEntity.status(HttpStatus.CREATED).body(body);
+        } catch (RuntimeException | IOException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/{hash}")
+    public void getOriginal(@PathVariable String hash, HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        serve(hash, null, request, response);
+    }
+
+    @GetMapping("/{hash}/{variant}")
+    public void getVariant(@PathVariable String hash, @PathVariable String variant,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(hash, variant, request, response);
+    }
+
+    private void serve(String hash, String variant, HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        Path file = imageStorageService.resolve(hash, variant);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // ETag follows the file actually served (a variant may temporarily fall back to the original)
+        boolean fallback = variant != null && file.getFileName().toString().equals(ImageStorageService.ORIGINAL);
+        String etag = "\"" + hash + "-" + file.getFileName() + "\"";
+        response.setHeader("ETag", etag);
+        response.setHeader("Cache-Control", fallback ? CACHE_CONTROL_FALLBACK : CACHE_CONTROL);
+        response.setHeader("Accept-Ranges", "bytes");
+        if (etag.equals(request.getHeader("If-None-Match"))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = Files.size(file);
+        long start = 0;
+        long end = length - 1;
+
+        String range = request.getHeader("Range");
+        if (range != null && range.startsWith("bytes=") && !range.contains(",")) {
+            // Single range only; multi-range requests get the full body, which the spec allows
+            long[] parsed = parseRange(range.substring(6).trim(), length);
+            if (parsed == null) {
+                response.setHeader("Content-Range", "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+            start = parsed[0];
+            end = parsed[1];
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + length);
+        }
+
+        long count = end - start + 1;
+        response.setContentType(imageStorageService.contentType(file));
+        response.setContentLengthLong(count);
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat sends the bytes with sendfile after this method returns
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        // Fallback: FileChannel.transferTo, no intermediate heap buffer in our code
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (count > 0) {
+                long written = channel.transferTo(position, count, out);
+                if (written <= 0) {
+                    break;
+                }
+                position += written;
+                count -= written;
+            }
+        }
+    }
+
+    // "a-b", "a-" or "-suffix"; returns null when not satisfiable
+    private static long[] parseRange(String spec, long length) {
+        try {
+            int dash = spec.indexOf('-');
+            if (dash < 0 || length == 0) {
+                return null;
+            }
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            long start;
+            long end;
+            if (first.isEmpty()) {
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0) {
+                    return null;
+                }
+                start = Math.max(0, length - suffix);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                end = last.isEmpty() ? length - 1 : Math.min(Long.parseLong(last), length - 1);
+            }
+            return start <= end && start < length ? new long[]{start, end} : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
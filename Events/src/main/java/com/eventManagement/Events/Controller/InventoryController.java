@@ -0,0 +1,35 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Service.InventoryService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/inventory")
+@CrossOrigin(origins = "http://localhost:5173")
+public class InventoryController {
+
+    private final InventoryService inventoryService;
+
+    public InventoryController(InventoryService inventoryService) {
+        this.inventoryService = inventoryService;
+    }
+
+    // Live Redis counters of an event (empty when not loaded) - ADMIN only
+    @GetMapping("/{eventId}")
+    public Map<String, Long> getCounters(@PathVariable Long eventId) {
+        return inventoryService.getCounters(eventId);
+    }
+
+    // Reload the counters from the tickets table, e.g. after restoring Redis
+    @PostMapping("/{eventId}/rebuild")
+    public ResponseEntity<?> rebuild(@PathVariable Long eventId) {
+        try {
+            return ResponseEntity.ok(inventoryService.reload(eventId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Entity.Notification;
+import com.eventManagement.Events.Service.NotificationDispatcher;
+import com.eventManagement.Events.Service.NotificationService;
+import com.eventManagement.Events.Utills.CustomUserDetails;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@CrossOrigin(origins = "http://localhost:5173")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+    private final NotificationDispatcher notificationDispatcher;
+
+    public NotificationController(NotificationService notificationService,
+                                  NotificationDispatcher notificationDispatcher) {
+        this.notificationService = notificationService;
+        this.notificationDispatcher = notificationDispatcher;
+    }
+
+    // Latest in-app notifications of the logged-in user
+    @GetMapping("/api/notifications")
+    public List<Notification> getMyNotifications(@AuthenticationPrincipal CustomUserDetails user) {
+        return notificationService.getLatest(user.getId());
+    }
+
+    // Sent counts per channel, retries and messages per second - ADMIN only
+    @GetMapping("/api/admin/notifications/stats")
+    public Map<String, Object> getStats() {
+        return notificationDispatcher.getStats();
+    }
+}
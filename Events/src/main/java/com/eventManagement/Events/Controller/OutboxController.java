@@ -0,0 +1,48 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Entity.OutboxEvent;
+import com.eventManagement.Events.Service.OutboxService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/outbox")
+@CrossOrigin(origins = "http://localhost:5173")
+public class OutboxController {
+
+    private final OutboxService outboxService;
+
+    public OutboxController(OutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    // Pending and dead-lettered event counts - ADMIN only
+    @GetMapping("/stats")
+    public Map<String, Object> getStats() {
+        return outboxService.getStats();
+    }
+
+    // Events the relay gave up on, oldest first, with their last error
+    @GetMapping("/failed")
+    public List<OutboxEvent> getFailed(@RequestParam(defaultValue = "50") int limit) {
+        return outboxService.getFailed(limit);
+    }
+
+    // Retry every dead letter, e.g. after fixing the subscriber that kept failing
+    @PostMapping("/failed/replay")
+    public Map<String, Integer> replayAll() {
+        return Map.of("requeued", outboxService.replayFailed(null));
+    }
+
+    @PostMapping("/failed/{id}/replay")
+    public ResponseEntity<?> replay(@PathVariable Long id) {
+        try {
+            return ResponseEntity.ok(Map.of("requeued", outboxService.replayFailed(id)));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Service.PricingService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/pricing")
+@CrossOrigin(origins = "http://localhost:5173")
+public class PricingController {
+
+    private final PricingService pricingService;
+
+    public PricingController(PricingService pricingService) {
+        this.pricingService = pricingService;
+    }
+
+    // Snapshot version, events tracked and events currently priced above list - ADMIN only
+    @GetMapping("/stats")
+    public Map<String, Object> getStats() {
+        return pricingService.getStats();
+    }
+}
@@ -0,0 +1,67 @@
+package com.eventManagement.Events.Controller;
+
+import com.eventManagement.Events.Entity.Ticket;
+import com.eventManagement.Events.Service.InventoryService;
+import com.eventManagement.Events.Service.TicketService;
+import com.eventManagement.Events.Utills.CustomUserDetails;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/tickets")
+@CrossOrigin(origins = "http://localhost:5173")
+public class TicketController {
+
+    private final TicketService ticketService;
+    private final InventoryService inventoryService;
+
+    public TicketController(TicketService ticketService, InventoryService inventoryService) {
+        this.ticketService = ticketService;
+        this.inventoryService = inventoryService;
+    }
+
+    // Buy one ticket - ATTENDEE. Body: { "eventId": 1, "tierType": "Standard", "quote": "..." }
+    // "quote" is the tier's quote from /api/events/{id}/prices; required while demand pricing is on
+    @PostMapping("/purchase")
+    public ResponseEntity<?> purchase(@RequestBody Map<String, Object> body,
+                                      @AuthenticationPrincipal CustomUserDetails user) {
+        try {
+            Long eventId = Long.valueOf(String.valueOf(body.get("eventId")));
+            String tierType = String.valueOf(body.get("tierType"));
+            String quote = body.get("quote") != null ? String.valueOf(body.get("quote")) : null;
+            Ticket ticket = inventoryService.purchase(eventId, tierType, user.getId(), quote);
+            return ResponseEntity.status(HttpStatus.CREATED).body(ticket);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<?> cancel(@PathVariable Long id, @AuthenticationPrincipal CustomUserDetails user) {
+        try {
+            return ResponseEntity.ok(inventoryService.cancel(id, user.getId()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Compact signed token to render as the ticket's QR code
+    @GetMapping("/{id}/token")
+    public ResponseEntity<?> getToken(@PathVariable Long id, @AuthenticationPrincipal CustomUserDetails user) {
+        try {
+            return ResponseEntity.ok(Map.of("token", ticketService.getToken(id, user.getId())));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/mine")
+    public List<Ticket> getMyTickets(@AuthenticationPrincipal CustomUserDetails user) {
+        return ticketService.getTicketsOfUser(user.getId());
+    }
+}
@@ -1,7 +1,9 @@
 package com.eventManagement.Events.Controller;
 
 import com.eventManagement.Events.Entity.User;
+import com.eventManagement.Events.Service.AuditLogService;
 import com.eventManagement.Events.Service.UserService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.http.HttpStatus;
@@ -13,9 +15,14 @@ import java.util.List;
 public class UserController {
 
     private final UserService userService;
+    private final AuditLogService auditLogService;
+    private final int maxBatchIds;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, AuditLogService auditLogService,
+                          @Value("${app.batch.max-ids:200}") int maxBatchIds) {
         this.userService = userService;
+        this.auditLogService = auditLogService;
+        this.maxBatchIds = maxBatchIds;
     }
 
     // Get all users - ADMIN only
@@ -24,6 +31,15 @@ public class UserController {
         return userService.getAllUsers();
     }
 
+    // Several users in one request, e.g. /api/users/batch?ids=1,2,3 - ADMIN only
+    @GetMapping("/batch")
+    public ResponseEntity<?> getUsersByIds(@RequestParam List<Long> ids) {
+        if (ids.size() > maxBatchIds) {
+            return ResponseEntity.badRequest().body("At most " + maxBatchIds + " ids per request");
+        }
+        return ResponseEntity.ok(userService.getUsersByIds(ids));
+    }
+
     // Get user by ID - ADMIN only
     @GetMapping("/{id}")
     public ResponseEntity<User> getUserById(@PathVariable Long id) {
@@ -37,8 +53,10 @@ public class UserController {
     public ResponseEntity<?> registerUser(@RequestBody User user) {
         try {
             User savedUser = userService.createUser(user);
+            auditLogService.audit("user.create", "user:" + savedUser.getId(), AuditLogService.SUCCESS);
             return ResponseEntity.status(HttpStatus.CREATED).body(savedUser);
         } catch (RuntimeException e) {
+            auditLogService.audit("user.create", null, AuditLogService.FAILURE);
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         }
     }
@@ -46,13 +64,16 @@ public class UserController {
     // Update user - ADMIN only
     @PutMapping("/{id}")
     public ResponseEntity<User> updateUser(@PathVariable Long id, @RequestBody User updatedUser) {
-        return ResponseEntity.ok(userService.updateUser(id, updatedUser));
+        User user = userService.updateUser(id, updatedUser);
+        auditLogService.audit("user.update", "user:" + id, AuditLogService.SUCCESS);
+        return ResponseEntity.ok(user);
     }
 
     // Delete user - ADMIN only
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteUser(@PathVariable Long id) {
         userService.deleteUser(id);
+        auditLogService.audit("user.delete", "user:" + id, AuditLogService.SUCCESS);
         return ResponseEntity.noContent().build();
     }
 }
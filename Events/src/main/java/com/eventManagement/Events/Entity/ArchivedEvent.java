@@ -0,0 +1,73 @@
+package com.eventManagement.Events.Entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Cold storage for past Events and EventCards, moved here by ArchiveService. The full record is kept
+// as gzip-compressed JSON; only the columns needed to list and find it are stored uncompressed.
+@Entity
+@Table(name = "archived_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_archived_source", columnNames = {"sourceType", "sourceId"}),
+        indexes = @Index(name = "idx_archived_end_date", columnList = "endDate"))
+public class ArchivedEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String sourceType; // "Event" or "EventCards"
+
+    @Column(nullable = false)
+    private Long sourceId; // id the record had in the hot table
+
+    private String name;
+
+    private String category;
+
+    private String organizer;
+
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+
+    @Column(nullable = false)
+    private int rawBytes; // JSON size before compression
+
+    @Column(nullable = false)
+    private byte[] payload; // gzip JSON
+
+    public ArchivedEvent() {}
+
+    public ArchivedEvent(String sourceType, Long sourceId, String name, String category, String organizer,
+                         LocalDate startDate, LocalDate endDate, int rawBytes, byte[] payload) {
+        this.sourceType = sourceType;
+        this.sourceId = sourceId;
+        this.name = name;
+        this.category = category;
+        this.organizer = organizer;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.rawBytes = rawBytes;
+        this.payload = payload;
+        this.archivedAt = Instant.now();
+    }
+
+    public Long getId() { return id; }
+    public String getSourceType() { return sourceType; }
+    public Long getSourceId() { return sourceId; }
+    public String getName() { return name; }
+    public String getCategory() { return category; }
+    public String getOrganizer() { return organizer; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public Instant getArchivedAt() { return archivedAt; }
+    public int getRawBytes() { return rawBytes; }
+    public byte[] getPayload() { return payload; }
+}
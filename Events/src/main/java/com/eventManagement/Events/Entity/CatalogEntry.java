@@ -0,0 +1,121 @@
+package com.eventManagement.Events.Entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Read model for the home page: one flat row per Event or EventCards, maintained by CatalogProjector.
+// Everything a card needs is precomputed here so reads never join or aggregate.
+@Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog")
+@Table(name = "catalog_entries",
+        uniqueConstraints = @UniqueConstraint(name = "uk_catalog_source", columnNames = {"sourceType", "sourceId"}),
+        indexes = {
+                @Index(name = "idx_catalog_start_date", columnList = "startDate"),
+                @Index(name = "idx_catalog_category_start_date", columnList = "category, startDate")
+        })
+public class CatalogEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    private String sourceType; // "Event" or "EventCards"
+
+    @Column(nullable = false)
+    private Long sourceId;
+
+    @Column(nullable = false, length = 150)
+    private String name;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(length = 50)
+    private String category;
+
+    private LocalDate startDate;
+
+    private LocalDate endDate;
+
+    @Column(length = 150)
+    private String location;
+
+    private Double minPrice;
+
+    private String image;
+
+    @Column(length = 150)
+    private String organizer;
+
+    private Double rating;
+
+    private int attendees;
+
+    @Column(length = 1000)
+    private String tags; // comma separated, avoids a collection table join
+
+    @Column(nullable = false)
+    private Instant projectedAt;
+
+    public CatalogEntry() {}
+
+    public CatalogEntry(String sourceType, Long sourceId) {
+        this.sourceType = sourceType;
+        this.sourceId = sourceId;
+    }
+
+    // --- Getters & Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getSourceType() { return sourceType; }
+    public void setSourceType(String sourceType) { this.sourceType = sourceType; }
+
+    public Long getSourceId() { return sourceId; }
+    public void setSourceId(Long sourceId) { this.sourceId = sourceId; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public LocalDate getStartDate() { return startDate; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+
+    public LocalDate getEndDate() { return endDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+
+    public String getLocation() { return location; }
+    public void setLocation(String location) { this.location = location; }
+
+    public Double getMinPrice() { return minPrice; }
+    public void setMinPrice(Double minPrice) { this.minPrice = minPrice; }
+
+    public String getImage() { return image; }
+    public void setImage(String image) { this.image = image; }
+
+    public String getOrganizer() { return organizer; }
+    public void setOrganizer(String organizer) { this.organizer = organizer; }
+
+    public Double getRating() { return rating; }
+    public void setRating(Double rating) { this.rating = rating; }
+
+    public int getAttendees() { return attendees; }
+    public void setAttendees(int attendees) { this.attendees = attendees; }
+
+    public String getTags() { return tags; }
+    public void setTags(String tags) { this.tags = tags; }
+
+    public Instant getProjectedAt() { return projectedAt; }
+    public void setProjectedAt(Instant projectedAt) { this.projectedAt = projectedAt; }
+}
@@ -1,10 +1,19 @@
 package com.eventManagement.Events.Entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
-@Table(name = "events")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_min_price", columnList = "minPrice")
+})
 public class Event {
 
     @Id
@@ -33,7 +42,19 @@ public class Event {
     private int capacity;
 
     @Column(nullable = true, columnDefinition = "TEXT")
-    private String ticketTiers; // JSON string
+    private String ticketTiers; // raw JSON as sent by the client, parsed into tiers on write
+
+    @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("price ASC")
+    // Not second-level cached: sold counts change on every sale, and a per-JVM copy would let another
+    // instance check capacity against a stale count and write it back
+    private List<TicketTier> tiers = new ArrayList<>();
+
+    @Column(nullable = true)
+    private Double minPrice; // cheapest tier price, kept in sync with tiers
+
+    @Column(columnDefinition = "integer not null default 0")
+    private int ticketsIssued; // last ticket sequence handed out, also the gross number of tickets sold
 
     @Column(nullable = false)
     private double price;
@@ -95,6 +116,15 @@ public class Event {
     public String getTicketTiers() { return ticketTiers; }
     public void setTicketTiers(String ticketTiers) { this.ticketTiers = ticketTiers; }
 
+    public List<TicketTier> getTiers() { return tiers; }
+    public void setTiers(List<TicketTier> tiers) { this.tiers = tiers; }
+
+    public Double getMinPrice() { return minPrice; }
+    public void setMinPrice(Double minPrice) { this.minPrice = minPrice; }
+
+    public int getTicketsIssued() { return ticketsIssued; }
+    public void setTicketsIssued(int ticketsIssued) { this.ticketsIssued = ticketsIssued; }
+
     public double getPrice() { return price; }
     public void setPrice(double price) { this.price = price; }
 
@@ -1,11 +1,16 @@
 package com.eventManagement.Events.Entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventCards")
 @Table(name = "event_cards")
 public class EventCards {
 
@@ -30,6 +35,7 @@ public class EventCards {
     private int attendees;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "eventCards.tags")
     private List<String> tags;
 
     public EventCards(Long id, String name, String description, String category, String date,
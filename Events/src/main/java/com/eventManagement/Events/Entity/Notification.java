@@ -0,0 +1,68 @@
+package com.eventManagement.Events.Entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+// In-app notification. Uses a pooled sequence instead of IDENTITY so a page of
+// notifications is written with JDBC batch inserts.
+@Entity
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_created", columnList = "userId, createdAt")
+})
+public class Notification {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_seq")
+    @SequenceGenerator(name = "notification_seq", sequenceName = "notification_seq", allocationSize = 500)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = true)
+    private Long eventId;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = true)
+    private Instant readAt;
+
+    public Notification() {}
+
+    public Notification(Long userId, Long eventId, String subject, String body) {
+        this.userId = userId;
+        this.eventId = eventId;
+        this.subject = subject;
+        this.body = body;
+        this.createdAt = Instant.now();
+    }
+
+    // --- Getters & Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public String getSubject() { return subject; }
+    public void setSubject(String subject) { this.subject = subject; }
+
+    public String getBody() { return body; }
+    public void setBody(String body) { this.body = body; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getReadAt() { return readAt; }
+    public void setReadAt(Instant readAt) { this.readAt = readAt; }
+}
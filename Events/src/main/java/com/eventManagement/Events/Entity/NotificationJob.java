@@ -0,0 +1,93 @@
+package com.eventManagement.Events.Entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+// Durable state of a ticket holder notification fan-out, so a restart resumes it instead of losing it
+@Entity
+@Table(name = "notification_jobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_jobs_outbox", columnNames = "outboxId"))
+public class NotificationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long outboxId; // the domain event that asked for it; a redelivery finds the same job
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false, length = 100)
+    private String templateKey;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String args; // template arguments as a JSON array
+
+    @Column(nullable = false, length = 50)
+    private String channels; // e.g. "EMAIL,IN_APP"
+
+    @Column(nullable = false)
+    private Long lastUserId; // every recipient up to this user id has been handled
+
+    @Column(nullable = false, length = 36)
+    private String owner; // instance working on it
+
+    @Column(nullable = false)
+    private Instant heartbeatAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = true)
+    private Instant finishedAt;
+
+    public NotificationJob() {}
+
+    public NotificationJob(Long outboxId, Long eventId, String templateKey, String args, String channels, String owner) {
+        this.outboxId = outboxId;
+        this.eventId = eventId;
+        this.templateKey = templateKey;
+        this.args = args;
+        this.channels = channels;
+        this.lastUserId = 0L;
+        this.owner = owner;
+        this.createdAt = Instant.now();
+        this.heartbeatAt = this.createdAt;
+    }
+
+    // --- Getters & Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getOutboxId() { return outboxId; }
+    public void setOutboxId(Long outboxId) { this.outboxId = outboxId; }
+
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public String getTemplateKey() { return templateKey; }
+    public void setTemplateKey(String templateKey) { this.templateKey = templateKey; }
+
+    public String getArgs() { return args; }
+    public void setArgs(String args) { this.args = args; }
+
+    public String getChannels() { return channels; }
+    public void setChannels(String channels) { this.channels = channels; }
+
+    public Long getLastUserId() { return lastUserId; }
+    public void setLastUserId(Long lastUserId) { this.lastUserId = lastUserId; }
+
+    public String getOwner() { return owner; }
+    public void setOwner(String owner) { this.owner = owner; }
+
+    public Instant getHeartbeatAt() { return heartbeatAt; }
+    public void setHeartbeatAt(Instant heartbeatAt) { this.heartbeatAt = heartbeatAt; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+}
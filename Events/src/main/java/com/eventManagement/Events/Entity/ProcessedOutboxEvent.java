@@ -0,0 +1,45 @@
+package com.eventManagement.Events.Entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+// Marks an outbox event as applied by one subscriber; the unique key turns a redelivery into a no-op
+@Entity
+@Table(name = "processed_outbox_events",
+        uniqueConstraints = @UniqueConstraint(name = "uk_processed_outbox", columnNames = {"consumer", "outboxId"}))
+public class ProcessedOutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String consumer; // e.g. "sales-rollup"
+
+    @Column(nullable = false)
+    private Long outboxId;
+
+    @Column(nullable = false)
+    private Instant processedAt;
+
+    public ProcessedOutboxEvent() {}
+
+    public ProcessedOutboxEvent(String consumer, Long outboxId) {
+        this.consumer = consumer;
+        this.outboxId = outboxId;
+        this.processedAt = Instant.now();
+    }
+
+    // --- Getters & Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getConsumer() { return consumer; }
+    public void setConsumer(String consumer) { this.consumer = consumer; }
+
+    public Long getOutboxId() { return outboxId; }
+    public void setOutboxId(Long outboxId) { this.outboxId = outboxId; }
+
+    public Instant getProcessedAt() { return processedAt; }
+    public void setProcessedAt(Instant processedAt) { this.processedAt = processedAt; }
+}
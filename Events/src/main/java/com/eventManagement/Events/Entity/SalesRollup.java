@@ -0,0 +1,89 @@
+package com.eventManagement.Events.Entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+// Pre-aggregated ticket sales for one event, tier and time bucket.
+// granularity is MINUTE, HOUR, DAY or TOTAL (single bucket at epoch 0).
+@Entity
+@Table(name = "sales_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_sales_rollup_bucket",
+                columnNames = {"eventId", "tierType", "granularity", "bucketStart"}),
+        indexes = {
+                @Index(name = "idx_sales_rollup_event", columnList = "eventId, granularity, bucketStart"),
+                @Index(name = "idx_sales_rollup_organizer", columnList = "organizer, granularity, bucketStart")
+        })
+public class SalesRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Version
+    private long version; // concurrent flushes from several instances must not lose increments
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false, length = 100)
+    private String organizer;
+
+    @Column(nullable = false, length = 50)
+    private String tierType;
+
+    @Column(nullable = false, length = 10)
+    private String granularity;
+
+    @Column(nullable = false)
+    private Instant bucketStart;
+
+    @Column(nullable = false)
+    private long sold;
+
+    @Column(nullable = false)
+    private long cancelled;
+
+    @Column(nullable = false)
+    private double revenue; // net of cancellations
+
+    public SalesRollup() {}
+
+    public SalesRollup(Long eventId, String organizer, String tierType, String granularity, Instant bucketStart) {
+        this.eventId = eventId;
+        this.organizer = organizer;
+        this.tierType = tierType;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+    }
+
+    // --- Getters & Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public long getVersion() { return version; }
+    public void setVersion(long version) { this.version = version; }
+
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public String getOrganizer() { return organizer; }
+    public void setOrganizer(String organizer) { this.organizer = organizer; }
+
+    public String getTierType() { return tierType; }
+    public void setTierType(String tierType) { this.tierType = tierType; }
+
+    public String getGranularity() { return granularity; }
+    public void setGranularity(String granularity) { this.granularity = granularity; }
+
+    public Instant getBucketStart() { return bucketStart; }
+    public void setBucketStart(Instant bucketStart) { this.bucketStart = bucketStart; }
+
+    public long getSold() { return sold; }
+    public void setSold(long sold) { this.sold = sold; }
+
+    public long getCancelled() { return cancelled; }
+    public void setCancelled(long cancelled) { this.cancelled = cancelled; }
+
+    public double getRevenue() { return revenue; }
+    public void setRevenue(double revenue) { this.revenue = revenue; }
+}
@@ -0,0 +1,82 @@
+package com.eventManagement.Events.Entity;
+
+import com.eventManagement.Events.Utills.TicketStatus;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+// A ticket held by a user. eventId is a plain column (no FK) so holders can still be
+// reached after the event itself is deleted, e.g. for cancellation notices.
+@Entity
+@Table(name = "tickets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tickets_event_sequence", columnNames = {"eventId", "sequence"}),
+        indexes = @Index(name = "idx_tickets_event_user", columnList = "eventId, userId"))
+public class Ticket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 50)
+    private String tierType;
+
+    @Column(nullable = false)
+    private double pricePaid;
+
+    @Column(nullable = false)
+    private int sequence; // 1..n within the event
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TicketStatus status = TicketStatus.ACTIVE;
+
+    @Column(nullable = false)
+    private Instant purchasedAt;
+
+    private Instant checkedInAt; // written asynchronously by CheckInService
+
+    public Ticket() {}
+
+    public Ticket(Long eventId, Long userId, String tierType, double pricePaid, int sequence) {
+        this.eventId = eventId;
+        this.userId = userId;
+        this.tierType = tierType;
+        this.pricePaid = pricePaid;
+        this.sequence = sequence;
+        this.purchasedAt = Instant.now();
+    }
+
+    // --- Getters & Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public Long getUserId() { return userId; }
+    public void setUserId(Long userId) { this.userId = userId; }
+
+    public String getTierType() { return tierType; }
+    public void setTierType(String tierType) { this.tierType = tierType; }
+
+    public double getPricePaid() { return pricePaid; }
+    public void setPricePaid(double pricePaid) { this.pricePaid = pricePaid; }
+
+    public int getSequence() { return sequence; }
+    public void setSequence(int sequence) { this.sequence = sequence; }
+
+    public TicketStatus getStatus() { return status; }
+    public void setStatus(TicketStatus status) { this.status = status; }
+
+    public Instant getPurchasedAt() { return purchasedAt; }
+    public void setPurchasedAt(Instant purchasedAt) { this.purchasedAt = purchasedAt; }
+
+    public Instant getCheckedInAt() { return checkedInAt; }
+    public void setCheckedInAt(Instant checkedInAt) { this.checkedInAt = checkedInAt; }
+}
@@ -0,0 +1,63 @@
+package com.eventManagement.Events.Entity;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "ticket_tiers", indexes = {
+        @Index(name = "idx_ticket_tiers_event_price", columnList = "event_id, price")
+})
+public class TicketTier {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @JsonIgnore
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "event_id", nullable = false)
+    private Event event;
+
+    @Column(nullable = false, length = 50)
+    private String type; // e.g. "Standard", "VIP" (same key the frontend sends)
+
+    @Column(nullable = false)
+    private double price;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(nullable = false)
+    private int sold;
+
+    public TicketTier() {}
+
+    public TicketTier(String type, double price, int capacity) {
+        this.type = type;
+        this.price = price;
+        this.capacity = capacity;
+    }
+
+    // --- Getters & Setters ---
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Event getEvent() { return event; }
+    public void setEvent(Event event) { this.event = event; }
+
+    public String getType() { return type; }
+    public void setType(String type) { this.type = type; }
+
+    public double getPrice() { return price; }
+    public void setPrice(double price) { this.price = price; }
+
+    public int getCapacity() { return capacity; }
+    public void setCapacity(int capacity) { this.capacity = capacity; }
+
+    public int getSold() { return sold; }
+    public void setSold(int sold) { this.sold = sold; }
+
+    public int getRemaining() { return Math.max(0, capacity - sold); }
+
+    public boolean isSoldOut() { return sold >= capacity; }
+}
@@ -1,6 +1,7 @@
 package com.eventManagement.Events.Entity;
 
 import com.eventManagement.Events.Utills.Role;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 
 import java.util.HashSet;
@@ -20,6 +21,8 @@ public class User {
     @Column(unique = true, nullable = false, length = 150)
     private String email;
 
+    // Accepted in request bodies, never written out: API responses and the Redis user cache leave the hash out
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
     @Column(nullable = false)
     private String password;
 
@@ -32,6 +35,9 @@ public class User {
     @Column(length = 300)
     private String profilePic; // store external URL
 
+    @Column(length = 10)
+    private String locale; // e.g. "en", "es"; used for notification templates
+
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(
             name = "user_roles",
@@ -72,6 +78,9 @@ public class User {
     public String getProfilePic() { return profilePic; }
     public void setProfilePic(String profilePic) { this.profilePic = profilePic; }
 
+    public String getLocale() { return locale; }
+    public void setLocale(String locale) { this.locale = locale; }
+
     public Set<Role> getRoles() { return roles; }
     public void setRoles(Set<Role> roles) { this.roles = roles; }
 
@@ -0,0 +1,32 @@
+package com.eventManagement.Events.Repository;
+
+import com.eventManagement.Events.Entity.ArchivedEvent;
+import com.eventManagement.Events.Utills.ArchivedEventSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    Optional<ArchivedEvent> findBySourceTypeAndSourceId(String sourceType, Long sourceId);
+
+    // Served by idx_archived_end_date; never touches the payload column
+    @Query("select new com.eventManagement.Events.Utills.ArchivedEventSummary(" +
+            "a.sourceId, a.name, a.category, a.organizer, a.startDate, a.endDate, a.archivedAt) " +
+            "from ArchivedEvent a where a.sourceType = :sourceType and a.endDate between :from and :to " +
+            "order by a.endDate desc, a.sourceId desc")
+    List<ArchivedEventSummary> findSummaries(@Param("sourceType") String sourceType,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to,
+                                             Pageable pageable);
+
+    // count, JSON bytes, stored (compressed) bytes
+    @Query(value = "select count(*), coalesce(sum(raw_bytes), 0), coalesce(sum(octet_length(payload)), 0) " +
+            "from archived_events", nativeQuery = true)
+    List<Object[]> sizeStats();
+}
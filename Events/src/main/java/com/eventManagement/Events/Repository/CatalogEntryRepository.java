@@ -0,0 +1,55 @@
+package com.eventManagement.Events.Repository;
+
+import com.eventManagement.Events.Entity.CatalogEntry;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
+public interface CatalogEntryRepository extends JpaRepository<CatalogEntry, Long> {
+
+    Optional<CatalogEntry> findBySourceTypeAndSourceId(String sourceType, Long sourceId);
+
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<CatalogEntry> findAllByOrderByStartDateAsc();
+
+    // Served by idx_catalog_category_start_date
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<CatalogEntry> findByCategoryOrderByStartDateAsc(String category);
+
+    // Entries overlapping [from, to], served by the GiST index idx_catalog_date_range (V4 migration)
+    @Query(value = "select * from catalog_entries c " +
+            "where c.start_date is not null " +
+            "and daterange(c.start_date, c.end_date, '[]') && daterange(:from, :to, '[]') " +
+            "order by c.start_date, c.id", nativeQuery = true)
+    List<CatalogEntry> findOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query(value = "select * from catalog_entries c " +
+            "where c.start_date is not null " +
+            "and daterange(c.start_date, c.end_date, '[]') && daterange(:from, :to, '[]') " +
+            "and c.category = :category " +
+            "order by c.start_date, c.id", nativeQuery = true)
+    List<CatalogEntry> findOverlappingInCategory(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                                 @Param("category") String category);
+
+    // Only the two dates per entry, for the per-day histogram
+    @Query(value = "select c.start_date, c.end_date from catalog_entries c " +
+            "where c.start_date is not null " +
+            "and daterange(c.start_date, c.end_date, '[]') && daterange(:from, :to, '[]') " +
+            "and (cast(:category as varchar) is null or c.category = :category)", nativeQuery = true)
+    List<Object[]> findOverlappingDates(@Param("from") LocalDate from, @Param("to") LocalDate to,
+                                        @Param("category") String category);
+
+    @Transactional
+    @Modifying
+    void deleteBySourceTypeAndSourceId(String sourceType, Long sourceId);
+}
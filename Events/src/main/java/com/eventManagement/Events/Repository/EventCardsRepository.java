@@ -5,7 +5,26 @@ package com.eventManagement.Events.Repository;
 //package com.eventManagement.Events.Repository;
 
 import com.eventManagement.Events.Entity.EventCards;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 
 public interface EventCardsRepository extends JpaRepository<EventCards, Long> {
+
+    // Catalog queries go through the Hibernate query cache
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<EventCards> findAll();
+
+    // Cards dated before the cutoff, for the archive mover; served by idx_event_cards_date (V6)
+    @Query("select c.id from EventCards c where c.date < :cutoff order by c.id")
+    List<Long> findIdsDatedBefore(@Param("cutoff") LocalDate cutoff, Pageable pageable);
 }
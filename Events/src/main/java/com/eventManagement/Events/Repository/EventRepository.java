@@ -1,7 +1,38 @@
 package com.eventManagement.Events.Repository;
 
 import com.eventManagement.Events.Entity.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    // Catalog queries go through the Hibernate query cache
+    @Override
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<Event> findAll();
+
+    // Served by idx_events_min_price
+    @QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
+    List<Event> findByMinPriceBetweenOrderByMinPriceAsc(double min, double max);
+
+    // Row lock for purchases: serializes ticket sequence allocation and capacity checks per event
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.id = :id")
+    Optional<Event> findByIdForUpdate(@Param("id") Long id);
+
+    // Events over before the cutoff, for the archive mover; served by idx_events_end_date (V6)
+    @Query("select e.id from Event e where coalesce(e.endDate, e.startDate) < :cutoff order by e.id")
+    List<Long> findIdsEndedBefore(@Param("cutoff") LocalDate cutoff, Pageable pageable);
 }
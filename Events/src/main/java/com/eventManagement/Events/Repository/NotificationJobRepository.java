@@ -0,0 +1,51 @@
+package com.eventManagement.Events.Repository;
+
+import com.eventManagement.Events.Entity.NotificationJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationJobRepository extends JpaRepository<NotificationJob, Long> {
+
+    // Unfinished jobs whose owner stopped heartbeating (idx_notification_jobs_running)
+    @Query("select j from NotificationJob j where j.finishedAt is null and j.heartbeatAt < :cutoff order by j.id")
+    List<NotificationJob> findStale(@Param("cutoff") Instant cutoff, Pageable pageable);
+
+    // Conditional, so only one instance takes over a stale job
+    @Transactional
+    @Modifying
+    @Query("update NotificationJob j set j.owner = :owner, j.heartbeatAt = :now " +
+            "where j.id = :id and j.finishedAt is null and j.heartbeatAt < :cutoff")
+    int claim(@Param("id") Long id, @Param("owner") String owner, @Param("now") Instant now,
+              @Param("cutoff") Instant cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationJob j set j.heartbeatAt = :now where j.id in :ids and j.owner = :owner")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("owner") String owner, @Param("now") Instant now);
+
+    // The updates below return 0 once another instance has claimed the job
+    @Transactional
+    @Modifying
+    @Query("update NotificationJob j set j.lastUserId = :lastUserId where j.id = :id and j.owner = :owner")
+    int advance(@Param("id") Long id, @Param("owner") String owner, @Param("lastUserId") Long lastUserId);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationJob j set j.lastUserId = :lastUserId, j.finishedAt = :finishedAt " +
+            "where j.id = :id and j.owner = :owner")
+    int finish(@Param("id") Long id, @Param("owner") String owner, @Param("lastUserId") Long lastUserId,
+               @Param("finishedAt") Instant finishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from NotificationJob j where j.finishedAt < :cutoff")
+    int deleteFinishedBefore(@Param("cutoff") Instant cutoff);
+}
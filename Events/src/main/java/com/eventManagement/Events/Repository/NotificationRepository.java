@@ -0,0 +1,11 @@
+package com.eventManagement.Events.Repository;
+
+import com.eventManagement.Events.Entity.Notification;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    List<Notification> findTop50ByUserIdOrderByCreatedAtDesc(Long userId);
+}
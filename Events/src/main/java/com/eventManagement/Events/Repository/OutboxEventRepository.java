@@ -0,0 +1,66 @@
+package com.eventManagement.Events.Repository;
+
+import com.eventManagement.Events.Entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // Oldest undelivered events first (idx_outbox_unpublished). A row in backoff holds back itself and
+    // the later events of its aggregate, so per-aggregate order is kept (idx_outbox_backoff).
+    // Dead letters (failedAt set) are left out and do not hold anything back.
+    @Query("select o from OutboxEvent o where o.publishedAt is null and o.failedAt is null and not exists (" +
+            "select 1 from OutboxEvent w where w.publishedAt is null and w.nextAttemptAt > :now " +
+            "and w.aggregateType = o.aggregateType and w.aggregateId = o.aggregateId and w.id <= o.id) " +
+            "order by o.id")
+    List<OutboxEvent> findDeliverable(@Param("now") Instant now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent o set o.publishedAt = :publishedAt where o.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent o set o.attempts = o.attempts + 1, o.lastError = :error, " +
+            "o.nextAttemptAt = :nextAttemptAt where o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent o set o.attempts = o.attempts + 1, o.lastError = :error, " +
+            "o.nextAttemptAt = null, o.failedAt = :failedAt where o.id = :id")
+    int markDeadLetter(@Param("id") Long id, @Param("error") String error, @Param("failedAt") Instant failedAt);
+
+    long countByPublishedAtIsNullAndFailedAtIsNull();
+
+    long countByFailedAtIsNotNull();
+
+    List<OutboxEvent> findByFailedAtIsNotNullOrderByIdAsc(Pageable pageable);
+
+    // Back into the queue with a fresh attempt budget
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent o set o.failedAt = null, o.attempts = 0, o.nextAttemptAt = null " +
+            "where o.failedAt is not null")
+    int requeueFailed();
+
+    @Transactional
+    @Modifying
+    @Query("update OutboxEvent o set o.failedAt = null, o.attempts = 0, o.nextAttemptAt = null " +
+            "where o.id = :id and o.failedAt is not null")
+    int requeueFailed(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from OutboxEvent o where o.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,22 @@
+package com.eventManagement.Events.Repository;
+
+import com.eventManagement.Events.Entity.ProcessedOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+public interface ProcessedOutboxEventRepository extends JpaRepository<ProcessedOutboxEvent, Long> {
+
+    boolean existsByConsumerAndOutboxId(String consumer, Long outboxId);
+
+    // A marker is needed as long as its outbox row exists and so can still be delivered (or replayed)
+    @Transactional
+    @Modifying
+    @Query("delete from ProcessedOutboxEvent p where p.processedAt < :cutoff and not exists (" +
+            "select 1 from OutboxEvent o where o.id = p.outboxId)")
+    int deleteOrphanedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,24 @@
+package com.eventManagement.Events.Repository;
+
+import com.eventManagement.Events.Entity.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, Long> {
+
+    Optional<SalesRollup> findByEventIdAndTierTypeAndGranularityAndBucketStart(
+            Long eventId, String tierType, String granularity, Instant bucketStart);
+
+    // idx_sales_rollup_event: reads exactly the buckets in range
+    List<SalesRollup> findByEventIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+            Long eventId, String granularity, Instant from, Instant to);
+
+    // idx_sales_rollup_organizer
+    List<SalesRollup> findByOrganizerAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+            String organizer, String granularity, Instant from, Instant to);
+
+    List<SalesRollup> findByEventIdAndGranularity(Long eventId, String granularity);
+}
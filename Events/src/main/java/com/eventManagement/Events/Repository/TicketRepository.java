@@ -0,0 +1,49 @@
+package com.eventManagement.Events.Repository;
+
+import com.eventManagement.Events.Entity.Ticket;
+import com.eventManagement.Events.Utills.NotificationRecipient;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TicketRepository extends JpaRepository<Ticket, Long> {
+
+    List<Ticket> findByUserIdOrderByPurchasedAtDesc(Long userId);
+
+    // Door state of an event, loaded once per instance by CheckInService
+    @Query("select t.sequence from Ticket t where t.eventId = :eventId and t.checkedInAt is not null")
+    List<Integer> findCheckedInSequences(@Param("eventId") Long eventId);
+
+    @Query("select t.sequence from Ticket t where t.eventId = :eventId " +
+            "and t.status = com.eventManagement.Events.Utills.TicketStatus.CANCELLED")
+    List<Integer> findCancelledSequences(@Param("eventId") Long eventId);
+
+    // Authoritative sales of an event, used to (re)build and write back the Redis inventory counters
+    @Query("select t.tierType, count(t) from Ticket t where t.eventId = :eventId " +
+            "and t.status = com.eventManagement.Events.Utills.TicketStatus.ACTIVE group by t.tierType")
+    List<Object[]> countActiveByTier(@Param("eventId") Long eventId);
+
+    @Query("select coalesce(max(t.sequence), 0) from Ticket t where t.eventId = :eventId")
+    int findMaxSequence(@Param("eventId") Long eventId);
+
+    // Only the first of two concurrent cancellations changes the row
+    @Modifying
+    @Query("update Ticket t set t.status = com.eventManagement.Events.Utills.TicketStatus.CANCELLED " +
+            "where t.id = :id and t.status = com.eventManagement.Events.Utills.TicketStatus.ACTIVE")
+    int cancelIfActive(@Param("id") Long id);
+
+    // Keyset page of distinct ticket holders: "user id > cursor" never rescans earlier pages,
+    // unlike OFFSET. Holders with several tickets appear once.
+    @Query("select new com.eventManagement.Events.Utills.NotificationRecipient(u.id, u.email, u.locale) " +
+            "from User u where u.id > :afterUserId and exists (" +
+            "select 1 from Ticket t where t.userId = u.id and t.eventId = :eventId " +
+            "and t.status = com.eventManagement.Events.Utills.TicketStatus.ACTIVE) " +
+            "order by u.id")
+    List<NotificationRecipient> findHolderPage(@Param("eventId") Long eventId,
+                                               @Param("afterUserId") Long afterUserId,
+                                               Pageable pageable);
+}
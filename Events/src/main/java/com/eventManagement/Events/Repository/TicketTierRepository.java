@@ -0,0 +1,23 @@
+package com.eventManagement.Events.Repository;
+
+import com.eventManagement.Events.Entity.TicketTier;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TicketTierRepository extends JpaRepository<TicketTier, Long> {
+
+    // Walks idx_ticket_tiers_event_price in price order and stops at the first tier with stock left
+    @Query("select t from TicketTier t where t.event.id = :eventId and t.sold < t.capacity order by t.price asc")
+    List<TicketTier> findAvailableByEventId(@Param("eventId") Long eventId, Pageable pageable);
+
+    List<TicketTier> findByEvent_IdOrderByPriceAsc(Long eventId);
+
+    // All tiers of a set of events in one query, for the pricing run
+    @Query("select t from TicketTier t where t.event.id in :eventIds")
+    List<TicketTier> findByEventIds(@Param("eventIds") Collection<Long> eventIds);
+}
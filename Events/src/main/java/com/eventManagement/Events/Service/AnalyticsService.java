@@ -0,0 +1,163 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.Event;
+import com.eventManagement.Events.Entity.ProcessedOutboxEvent;
+import com.eventManagement.Events.Entity.SalesRollup;
+import com.eventManagement.Events.Repository.EventRepository;
+import com.eventManagement.Events.Repository.ProcessedOutboxEventRepository;
+import com.eventManagement.Events.Repository.SalesRollupRepository;
+import com.eventManagement.Events.Utills.RollupGranularity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.*;
+
+// Reads and writes sales_rollups. Dashboard reads cost O(buckets), never O(tickets).
+@Service
+public class AnalyticsService {
+
+    public record RollupKey(Long eventId, String organizer, String tierType,
+                            RollupGranularity granularity, Instant bucketStart) {}
+
+    public static final class RollupDelta {
+        long sold;
+        long cancelled;
+        double revenue;
+
+        void add(RollupDelta other) {
+            sold += other.sold;
+            cancelled += other.cancelled;
+            revenue += other.revenue;
+        }
+    }
+
+    private final SalesRollupRepository salesRollupRepository;
+    private final EventRepository eventRepository;
+    private final ProcessedOutboxEventRepository processedOutboxEventRepository;
+
+    public AnalyticsService(SalesRollupRepository salesRollupRepository, EventRepository eventRepository,
+                            ProcessedOutboxEventRepository processedOutboxEventRepository) {
+        this.salesRollupRepository = salesRollupRepository;
+        this.eventRepository = eventRepository;
+        this.processedOutboxEventRepository = processedOutboxEventRepository;
+    }
+
+    // One transaction per ticket event; each key is a single row read + update. The outbox id is recorded
+    // in the same transaction, so a redelivered event is skipped (false) and never counted twice.
+    @Transactional
+    public boolean applyDeltas(String consumer, Long outboxId, Map<RollupKey, RollupDelta> deltas) {
+        if (processedOutboxEventRepository.existsByConsumerAndOutboxId(consumer, outboxId)) {
+            return false;
+        }
+        // Inserted first: a concurrent duplicate fails on uk_processed_outbox before touching any rollup
+        processedOutboxEventRepository.save(new ProcessedOutboxEvent(consumer, outboxId));
+        for (Map.Entry<RollupKey, RollupDelta> entry : deltas.entrySet()) {
+            RollupKey key = entry.getKey();
+            SalesRollup rollup = salesRollupRepository
+                    .findByEventIdAndTierTypeAndGranularityAndBucketStart(
+                            key.eventId(), key.tierType(), key.granularity().name(), key.bucketStart())
+                    .orElseGet(() -> new SalesRollup(key.eventId(), key.organizer(), key.tierType(),
+                            key.granularity().name(), key.bucketStart()));
+            RollupDelta delta = entry.getValue();
+            rollup.setSold(rollup.getSold() + delta.sold);
+            rollup.setCancelled(rollup.getCancelled() + delta.cancelled);
+            rollup.setRevenue(rollup.getRevenue() + delta.revenue);
+            salesRollupRepository.save(rollup);
+        }
+        return true;
+    }
+
+    // Organizer of the event, also once it is archived (its rollups stay)
+    @Transactional(readOnly = true)
+    public Optional<String> getEventOrganizer(Long eventId) {
+        Optional<String> organizer = eventRepository.findById(eventId).map(Event::getOrganizer);
+        if (organizer.isPresent()) {
+            return organizer;
+        }
+        return salesRollupRepository.findByEventIdAndGranularity(eventId, RollupGranularity.TOTAL.name())
+                .stream().findFirst().map(SalesRollup::getOrganizer);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getEventAnalytics(Long eventId, RollupGranularity granularity, Instant from, Instant to) {
+        List<SalesRollup> rows = salesRollupRepository
+                .findByEventIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+                        eventId, granularity.name(), from, to);
+
+        // Per-tier totals come from the TOTAL rollup, one row per tier
+        List<Map<String, Object>> tiers = new ArrayList<>();
+        long netSold = 0;
+        double revenue = 0;
+        for (SalesRollup total : salesRollupRepository.findByEventIdAndGranularity(eventId, RollupGranularity.TOTAL.name())) {
+            tiers.add(Map.of(
+                    "tierType", total.getTierType(),
+                    "sold", total.getSold(),
+                    "cancelled", total.getCancelled(),
+                    "attendees", total.getSold() - total.getCancelled(),
+                    "revenue", total.getRevenue()));
+            netSold += total.getSold() - total.getCancelled();
+            revenue += total.getRevenue();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("eventId", eventId);
+        result.put("granularity", granularity);
+        result.put("buckets", sumPerBucket(rows));
+        result.put("tiers", tiers);
+        result.put("attendees", netSold);
+        result.put("revenue", revenue);
+        long attendees = netSold;
+        eventRepository.findById(eventId).ifPresent(event -> {
+            result.put("capacity", event.getCapacity());
+            result.put("sellThrough", event.getCapacity() > 0 ? (double) attendees / event.getCapacity() : 0.0);
+        });
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getOrganizerAnalytics(String organizer, RollupGranularity granularity, Instant from, Instant to) {
+        List<SalesRollup> rows = salesRollupRepository
+                .findByOrganizerAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+                        organizer, granularity.name(), from, to);
+
+        // Totals per event from the TOTAL rollups
+        Map<Long, long[]> attendeesPerEvent = new LinkedHashMap<>();
+        Map<Long, Double> revenuePerEvent = new LinkedHashMap<>();
+        for (SalesRollup total : salesRollupRepository.findByOrganizerAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+                organizer, RollupGranularity.TOTAL.name(), Instant.EPOCH, Instant.EPOCH)) {
+            attendeesPerEvent.computeIfAbsent(total.getEventId(), id -> new long[1])[0] += total.getSold() - total.getCancelled();
+            revenuePerEvent.merge(total.getEventId(), total.getRevenue(), Double::sum);
+        }
+        List<Map<String, Object>> events = new ArrayList<>();
+        attendeesPerEvent.forEach((eventId, attendees) -> events.add(Map.of(
+                "eventId", eventId,
+                "attendees", attendees[0],
+                "revenue", revenuePerEvent.get(eventId))));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("organizer", organizer);
+        result.put("granularity", granularity);
+        result.put("buckets", sumPerBucket(rows));
+        result.put("events", events);
+        return result;
+    }
+
+    // Rows are already ordered by bucket; merge tiers/events that share a bucket
+    private static List<Map<String, Object>> sumPerBucket(List<SalesRollup> rows) {
+        Map<Instant, RollupDelta> perBucket = new LinkedHashMap<>();
+        for (SalesRollup row : rows) {
+            RollupDelta sum = perBucket.computeIfAbsent(row.getBucketStart(), b -> new RollupDelta());
+            sum.sold += row.getSold();
+            sum.cancelled += row.getCancelled();
+            sum.revenue += row.getRevenue();
+        }
+        List<Map<String, Object>> buckets = new ArrayList<>(perBucket.size());
+        perBucket.forEach((bucket, sum) -> buckets.add(Map.of(
+                "bucketStart", bucket.toString(),
+                "sold", sum.sold,
+                "cancelled", sum.cancelled,
+                "revenue", sum.revenue)));
+        return buckets;
+    }
+}
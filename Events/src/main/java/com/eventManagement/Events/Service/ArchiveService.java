@@ -0,0 +1,106 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.ArchivedEvent;
+import com.eventManagement.Events.Repository.ArchivedEventRepository;
+import com.eventManagement.Events.Utills.ArchiveCodec;
+import com.eventManagement.Events.Utills.ArchivedEventSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+
+// Hot/cold split: events and event cards that are over move to archived_events, so events,
+// event_cards, the catalog projection and the caches only carry current and upcoming ones.
+// Past records stay readable through the archive API.
+@Service
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    private final EventService eventService;
+    private final EventCardsService eventCardsService;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchiveCodec archiveCodec;
+    private final int afterDays;
+    private final int batchSize;
+
+    public ArchiveService(EventService eventService,
+                          EventCardsService eventCardsService,
+                          ArchivedEventRepository archivedEventRepository,
+                          ArchiveCodec archiveCodec,
+                          @Value("${app.archive.after-days:1}") int afterDays,
+                          @Value("${app.archive.batch-size:200}") int batchSize) {
+        this.eventService = eventService;
+        this.eventCardsService = eventCardsService;
+        this.archivedEventRepository = archivedEventRepository;
+        this.archiveCodec = archiveCodec;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+    }
+
+    // Nightly; each batch is its own transaction so a large backlog never holds locks for long
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archivePast() {
+        // Kept in the hot table for a grace period, e.g. for late door check-ins
+        LocalDate cutoff = LocalDate.now().minusDays(afterDays);
+        int events = drain(eventService::archiveEnded, cutoff);
+        int cards = drain(eventCardsService::archivePast, cutoff);
+        if (events + cards > 0) {
+            log.info("Archived {} events and {} event cards that ended before {}", events, cards, cutoff);
+        }
+    }
+
+    private int drain(BiFunction<LocalDate, Integer, Integer> archiveBatch, LocalDate cutoff) {
+        int total = 0;
+        try {
+            int moved;
+            do {
+                moved = archiveBatch.apply(cutoff, batchSize);
+                total += moved;
+            } while (moved == batchSize);
+        } catch (RuntimeException e) {
+            // e.g. another instance archived the same rows first (uk_archived_source); retried next run
+            log.warn("Archiving stopped after {} records: {}", total, e.getMessage());
+        }
+        return total;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArchivedEventSummary> getSummaries(String sourceType, LocalDate from, LocalDate to, int page, int size) {
+        return archivedEventRepository.findSummaries(sourceType, from, to, PageRequest.of(page, size));
+    }
+
+    // The stored gzip bytes of one archived record
+    @Transactional(readOnly = true)
+    public byte[] getCompressed(String sourceType, Long sourceId) {
+        return archivedEventRepository.findBySourceTypeAndSourceId(sourceType, sourceId)
+                .map(ArchivedEvent::getPayload)
+                .orElseThrow(() -> new RuntimeException("Archived event not found"));
+    }
+
+    public byte[] getJson(String sourceType, Long sourceId) {
+        return archiveCodec.decompress(getCompressed(sourceType, sourceId));
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStats() {
+        Object[] row = archivedEventRepository.sizeStats().get(0);
+        long rawBytes = ((Number) row[1]).longValue();
+        long storedBytes = ((Number) row[2]).longValue();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("records", ((Number) row[0]).longValue());
+        stats.put("rawBytes", rawBytes);
+        stats.put("storedBytes", storedBytes);
+        stats.put("compressionRatio", storedBytes == 0 ? null : Math.round(rawBytes * 100.0 / storedBytes) / 100.0);
+        return stats;
+    }
+}
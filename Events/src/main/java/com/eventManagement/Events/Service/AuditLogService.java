@@ -0,0 +1,274 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Utills.AuditOverflowPolicy;
+import com.eventManagement.Events.Utills.AuditRingBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+// Audit and access log: request threads drop a record into a lock-free ring (a CAS and a few
+// field writes); one writer thread drains it in batches as NDJSON into size-rotated segment files
+// <dir>/audit-<epochMillis>.ndjson through a reused direct buffer and a FileChannel.
+@Service
+public class AuditLogService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLogService.class);
+
+    public static final String SUCCESS = "SUCCESS";
+    public static final String FAILURE = "FAILURE";
+
+    private final AuditRingBuffer ring;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final Path dir;
+    private final long segmentBytes;
+    private final int maxSegments;
+    private final int batchSize;
+    private final long idleNanos;
+
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // Writer thread state
+    private final StringBuilder line = new StringBuilder(512);
+    private final ByteBuffer buffer;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private FileChannel channel;
+    private volatile Path segment;
+    private long segmentSize;
+
+    public AuditLogService(@Value("${app.audit.dir:./data/audit}") String dir,
+                           @Value("${app.audit.ring-size:16384}") int ringSize,
+                           @Value("${app.audit.overflow:DROP}") AuditOverflowPolicy overflowPolicy,
+                           @Value("${app.audit.segment-bytes:16777216}") long segmentBytes,
+                           @Value("${app.audit.max-segments:20}") int maxSegments,
+                           @Value("${app.audit.batch-size:512}") int batchSize,
+                           @Value("${app.audit.buffer-bytes:65536}") int bufferBytes,
+                           @Value("${app.audit.idle-ms:50}") long idleMs) throws IOException {
+        this.ring = new AuditRingBuffer(ringSize);
+        this.overflowPolicy = overflowPolicy;
+        this.dir = Paths.get(dir).toAbsolutePath().normalize();
+        this.segmentBytes = segmentBytes;
+        this.maxSegments = maxSegments;
+        this.batchSize = batchSize;
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMs);
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        Files.createDirectories(this.dir);
+
+        this.writer = new Thread(this::runWriter, "audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Security-relevant action by the current user, e.g. audit("user.delete", "user:5", SUCCESS)
+    public void audit(String action, String target, String outcome) {
+        audit(action, currentActor(), target, outcome);
+    }
+
+    // For actions without an authenticated user yet, e.g. login attempts
+    public void audit(String action, String actor, String target, String outcome) {
+        record(System.currentTimeMillis(), "audit", action, actor, target, outcome, 0, 0, null);
+    }
+
+    public void access(String method, String actor, String path, int status, long durationMicros, String remoteAddr) {
+        record(System.currentTimeMillis(), "access", method, actor, path, null, status, durationMicros, remoteAddr);
+    }
+
+    private void record(long timestamp, String kind, String action, String actor, String target,
+                        String outcome, int status, long durationMicros, String remoteAddr) {
+        while (!ring.offer(timestamp, kind, action, actor, target, outcome, status, durationMicros, remoteAddr)) {
+            // Wake the writer early rather than waiting out its idle pause
+            LockSupport.unpark(writer);
+            if (overflowPolicy == AuditOverflowPolicy.DROP || !running) {
+                dropped.increment();
+                return;
+            }
+            LockSupport.parkNanos(50_000);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("written", written.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("pending", ring.size());
+        stats.put("ringCapacity", ring.capacity());
+        stats.put("overflowPolicy", overflowPolicy);
+        stats.put("segment", segment == null ? null : segment.getFileName().toString());
+        return stats;
+    }
+
+    public static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private void runWriter() {
+        while (running || ring.size() > 0) {
+            try {
+                if (drain() == 0) {
+                    LockSupport.parkNanos(idleNanos);
+                }
+            } catch (Exception e) {
+                log.warn("Audit writer failed, retrying: {}", e.getMessage());
+                closeSegment();
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+        closeSegment();
+    }
+
+    // Encodes up to batchSize records into the buffer and writes it out in as few syscalls as possible
+    private int drain() throws IOException {
+        int count = 0;
+        AuditRingBuffer.Slot slot;
+        while (count < batchSize && (slot = ring.poll()) != null) {
+            line.setLength(0);
+            appendJson(slot);
+            ring.release(slot);
+            encode();
+            count++;
+        }
+        if (count > 0) {
+            flush();
+            written.add(count);
+        }
+        return count;
+    }
+
+    private void appendJson(AuditRingBuffer.Slot slot) {
+        line.append("{\"ts\":").append(slot.timestamp);
+        field("kind", slot.kind);
+        field("action", slot.action);
+        field("actor", slot.actor);
+        field("target", slot.target);
+        field("outcome", slot.outcome);
+        if (slot.status != 0) {
+            line.append(",\"status\":").append(slot.status);
+            line.append(",\"durationUs\":").append(slot.durationMicros);
+        }
+        field("ip", slot.remoteAddr);
+        line.append("}\n");
+    }
+
+    private void field(String name, String value) {
+        if (value == null) {
+            return;
+        }
+        line.append(",\"").append(name).append("\":\"");
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> line.append("\\\"");
+                case '\\' -> line.append("\\\\");
+                case '\n' -> line.append("\\n");
+                case '\r' -> line.append("\\r");
+                case '\t' -> line.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        line.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        line.append(c);
+                    }
+                }
+            }
+        }
+        line.append('"');
+    }
+
+    private void encode() throws IOException {
+        CharBuffer chars = CharBuffer.wrap(line);
+        encoder.reset();
+        while (true) {
+            CoderResult result = encoder.encode(chars, buffer, true);
+            if (result.isOverflow()) {
+                flush();
+            } else {
+                break;
+            }
+        }
+    }
+
+    private void flush() throws IOException {
+        if (buffer.position() == 0) {
+            return;
+        }
+        if (channel == null || segmentSize >= segmentBytes) {
+            rotate();
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            segmentSize += channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void rotate() throws IOException {
+        closeSegment();
+        segment = dir.resolve("audit-" + System.currentTimeMillis() + ".ndjson");
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentSize = channel.size();
+        deleteOldSegments();
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(dir)) {
+            segments = files.filter(p -> p.getFileName().toString().startsWith("audit-"))
+                    .sorted()
+                    .toList();
+        }
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    private void closeSegment() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Could not close audit segment {}: {}", segment, e.getMessage());
+        }
+        channel = null;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // Let the writer drain what is already queued, then close the segment
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+}
@@ -0,0 +1,174 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.CatalogEntry;
+import com.eventManagement.Events.Entity.Event;
+import com.eventManagement.Events.Entity.EventCards;
+import com.eventManagement.Events.Entity.TicketTier;
+import com.eventManagement.Events.Repository.CatalogEntryRepository;
+import com.eventManagement.Events.Repository.EventCardsRepository;
+import com.eventManagement.Events.Repository.EventRepository;
+import com.eventManagement.Events.Utills.DomainEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+// Keeps catalog_entries in sync with events and event_cards, fed by outbox domain events
+@Service
+public class CatalogProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogProjector.class);
+    private static final int BACKFILL_PAGE_SIZE = 200;
+    private static final String UNTITLED = "Untitled";
+
+    private final CatalogEntryRepository catalogEntryRepository;
+    private final EventRepository eventRepository;
+    private final EventCardsRepository eventCardsRepository;
+    private final TransactionTemplate pageTransaction;
+
+    public CatalogProjector(CatalogEntryRepository catalogEntryRepository,
+                            EventRepository eventRepository,
+                            EventCardsRepository eventCardsRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.catalogEntryRepository = catalogEntryRepository;
+        this.eventRepository = eventRepository;
+        this.eventCardsRepository = eventCardsRepository;
+        this.pageTransaction = new TransactionTemplate(transactionManager);
+        this.pageTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Transactional
+    @EventListener(condition = "#event.aggregateType == 'Event' or #event.aggregateType == 'EventCards'")
+    public void onCatalogChange(DomainEvent event) {
+        String sourceType = event.aggregateType();
+        Long sourceId = event.aggregateId();
+
+        if (DomainEvent.DELETED.equals(event.eventType())) {
+            catalogEntryRepository.deleteBySourceTypeAndSourceId(sourceType, sourceId);
+            return;
+        }
+
+        // Project from the current row rather than the payload, so replays and out-of-date events are harmless
+        if (DomainEvent.EVENT.equals(sourceType)) {
+            eventRepository.findById(sourceId).ifPresentOrElse(
+                    this::project,
+                    () -> catalogEntryRepository.deleteBySourceTypeAndSourceId(sourceType, sourceId));
+        } else {
+            eventCardsRepository.findById(sourceId).ifPresentOrElse(
+                    this::project,
+                    () -> catalogEntryRepository.deleteBySourceTypeAndSourceId(sourceType, sourceId));
+        }
+    }
+
+    // Attendees are the tiers' sold counts, which only ticket events change
+    @Transactional
+    @EventListener(condition = "#event.aggregateType == 'Ticket' and (#event.eventType == 'Purchased' or #event.eventType == 'Cancelled')")
+    public void onTicketChange(DomainEvent event) {
+        Long eventId = ((Number) event.payload().get("eventId")).longValue();
+        eventRepository.findById(eventId).ifPresent(this::project);
+    }
+
+    // Backfill on first start (e.g. seeded event_cards); afterwards the outbox keeps it current.
+    // One transaction per page: a failing page (e.g. another instance backfilling the same rows) is
+    // logged and skipped instead of failing startup.
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (catalogEntryRepository.count() > 0) {
+            return;
+        }
+        int skipped = backfill(eventRepository, this::project) + backfill(eventCardsRepository, this::project);
+        log.info("Catalog projection backfilled with {} entries, {} pages skipped", catalogEntryRepository.count(), skipped);
+    }
+
+    private <T> int backfill(JpaRepository<T, Long> repository, Consumer<T> projection) {
+        int skipped = 0;
+        Pageable pageable = PageRequest.of(0, BACKFILL_PAGE_SIZE, Sort.by("id"));
+        while (true) {
+            Pageable current = pageable;
+            Boolean hasNext;
+            try {
+                hasNext = pageTransaction.execute(status -> {
+                    Page<T> page = repository.findAll(current);
+                    page.forEach(projection);
+                    return page.hasNext();
+                });
+            } catch (RuntimeException e) {
+                log.warn("Catalog backfill page {} skipped: {}", current.getPageNumber(), e.getMessage());
+                skipped++;
+                hasNext = true;
+            }
+            if (!Boolean.TRUE.equals(hasNext)) {
+                return skipped;
+            }
+            pageable = pageable.next();
+        }
+    }
+
+    void project(Event event) {
+        CatalogEntry entry = entryFor(DomainEvent.EVENT, event.getId());
+        entry.setName(name(event.getName()));
+        entry.setDescription(event.getDescription());
+        entry.setCategory(event.getCategory());
+        entry.setStartDate(event.getStartDate());
+        // Rows saved before end dates were validated may end before they start; daterange() would throw on those
+        LocalDate end = event.getEndDate();
+        LocalDate start = event.getStartDate();
+        entry.setEndDate(end == null || (start != null && end.isBefore(start)) ? start : end);
+        entry.setLocation(event.getLocation());
+        entry.setMinPrice(event.getMinPrice() != null ? event.getMinPrice() : event.getPrice());
+        entry.setImage(event.getImage());
+        entry.setOrganizer(event.getOrganizer());
+        entry.setRating(null);
+        entry.setAttendees(event.getTiers().stream().mapToInt(TicketTier::getSold).sum());
+        entry.setTags(null);
+        entry.setProjectedAt(Instant.now());
+        catalogEntryRepository.save(entry);
+    }
+
+    void project(EventCards card) {
+        CatalogEntry entry = entryFor(DomainEvent.EVENT_CARD, card.getId());
+        // Cards are not validated like events: cut values down to the catalog columns
+        entry.setName(name(card.getName()));
+        entry.setDescription(card.getDescription());
+        entry.setCategory(fit(card.getCategory(), 50));
+        entry.setStartDate(card.getDate());
+        entry.setEndDate(card.getDate());
+        entry.setLocation(fit(card.getLocation(), 150));
+        entry.setMinPrice(card.getPrice());
+        entry.setImage(card.getImage());
+        entry.setOrganizer(fit(card.getOrganizer(), 150));
+        entry.setRating(card.getRating());
+        entry.setAttendees(card.getAttendees());
+        entry.setTags(card.getTags() != null ? fit(String.join(",", card.getTags()), 1000) : null);
+        entry.setProjectedAt(Instant.now());
+        catalogEntryRepository.save(entry);
+    }
+
+    private CatalogEntry entryFor(String sourceType, Long sourceId) {
+        return catalogEntryRepository.findBySourceTypeAndSourceId(sourceType, sourceId)
+                .orElseGet(() -> new CatalogEntry(sourceType, sourceId));
+    }
+
+    // name is the one required catalog column
+    private static String name(String name) {
+        return name == null || name.isBlank() ? UNTITLED : fit(name, 150);
+    }
+
+    private static String fit(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,70 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.CatalogEntry;
+import com.eventManagement.Events.Repository.CatalogEntryRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class CatalogService {
+
+    private final CatalogEntryRepository catalogEntryRepository;
+
+    public CatalogService(CatalogEntryRepository catalogEntryRepository) {
+        this.catalogEntryRepository = catalogEntryRepository;
+    }
+
+    // Single-table read, no joins or aggregates at request time
+    @Transactional(readOnly = true)
+    public List<CatalogEntry> getCatalog(String category) {
+        if (category == null || category.isBlank()) {
+            return catalogEntryRepository.findAllByOrderByStartDateAsc();
+        }
+        return catalogEntryRepository.findByCategoryOrderByStartDateAsc(category);
+    }
+
+    // Everything running at some point in [from, to], multi-day entries included, by start date
+    @Transactional(readOnly = true)
+    public List<CatalogEntry> getCalendar(LocalDate from, LocalDate to, String category) {
+        if (category == null || category.isBlank()) {
+            return catalogEntryRepository.findOverlapping(from, to);
+        }
+        return catalogEntryRepository.findOverlappingInCategory(from, to, category);
+    }
+
+    // Number of entries running on each day of [from, to]. One index scan for the window, then a
+    // difference array: +1 on the first visible day of an entry, -1 after its last, prefix-summed.
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Integer> getDailyCounts(LocalDate from, LocalDate to, String category) {
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        int[] diff = new int[days + 1];
+        String filter = category == null || category.isBlank() ? null : category;
+        for (Object[] row : catalogEntryRepository.findOverlappingDates(from, to, filter)) {
+            LocalDate start = toLocalDate(row[0]);
+            LocalDate end = row[1] != null ? toLocalDate(row[1]) : start;
+            int first = (int) Math.max(0, ChronoUnit.DAYS.between(from, start));
+            int last = (int) Math.min(days - 1, ChronoUnit.DAYS.between(from, end));
+            diff[first]++;
+            diff[last + 1]--;
+        }
+
+        Map<LocalDate, Integer> counts = new LinkedHashMap<>();
+        int running = 0;
+        for (int i = 0; i < days; i++) {
+            running += diff[i];
+            counts.put(from.plusDays(i), running);
+        }
+        return counts;
+    }
+
+    private static LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
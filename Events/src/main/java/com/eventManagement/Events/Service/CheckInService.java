@@ -0,0 +1,187 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.Event;
+import com.eventManagement.Events.Repository.EventRepository;
+import com.eventManagement.Events.Repository.TicketRepository;
+import com.eventManagement.Events.Utills.*;
+import com.eventManagement.Events.Utills.TicketTokenCodec.TicketClaims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// Door check-in without a database round trip per scan. Tokens are verified by signature; each event
+// has an in-memory gate (bit per ticket sequence for "already entered" and for "cancelled") loaded
+// from the database and re-synced from it periodically. Accepted scans are written back to
+// tickets.checked_in_at in batches.
+@Service
+public class CheckInService {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckInService.class);
+
+    public record Scan(String token, Long scannedAt) {}
+
+    public record ScanResult(String token, Long ticketId, Integer sequence, CheckInStatus status) {}
+
+    private record Gate(String organizer, ConcurrentBitSet checkedIn, ConcurrentBitSet cancelled) {}
+
+    private record PendingCheckIn(long ticketId, Instant at) {}
+
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final TicketService ticketService;
+    private final TicketTokenCodec ticketTokenCodec;
+    private final int flushBatchSize;
+
+    private final Map<Long, Gate> gates = new ConcurrentHashMap<>();
+    private final Queue<PendingCheckIn> pending = new ConcurrentLinkedQueue<>();
+
+    public CheckInService(TicketRepository ticketRepository,
+                          EventRepository eventRepository,
+                          TicketService ticketService,
+                          TicketTokenCodec ticketTokenCodec,
+                          @Value("${app.checkin.flush-batch-size:500}") int flushBatchSize) {
+        this.ticketRepository = ticketRepository;
+        this.eventRepository = eventRepository;
+        this.ticketService = ticketService;
+        this.ticketTokenCodec = ticketTokenCodec;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    public List<ScanResult> checkIn(Long eventId, List<Scan> scans, CustomUserDetails user) {
+        Gate gate = authorizedGate(eventId, user);
+        List<ScanResult> results = new ArrayList<>(scans.size());
+        for (Scan scan : scans) {
+            TicketClaims claims = scan.token() == null ? null : ticketTokenCodec.decode(scan.token());
+            if (claims == null) {
+                results.add(new ScanResult(scan.token(), null, null, CheckInStatus.INVALID));
+                continue;
+            }
+            CheckInStatus status;
+            if (claims.eventId() != eventId) {
+                status = CheckInStatus.WRONG_EVENT;
+            } else if (gate.cancelled().get(claims.sequence())) {
+                status = CheckInStatus.CANCELLED;
+            } else if (gate.checkedIn().setIfClear(claims.sequence())) {
+                status = CheckInStatus.ACCEPTED;
+                Instant at = scan.scannedAt() != null ? Instant.ofEpochMilli(scan.scannedAt()) : Instant.now();
+                pending.add(new PendingCheckIn(claims.ticketId(), at));
+            } else {
+                status = CheckInStatus.DUPLICATE;
+            }
+            results.add(new ScanResult(scan.token(), claims.ticketId(), claims.sequence(), status));
+        }
+        return results;
+    }
+
+    // Key for the scanners of this event to verify tokens offline
+    public byte[] getScannerKey(Long eventId, CustomUserDetails user) {
+        authorizedGate(eventId, user);
+        return ticketTokenCodec.eventKey(eventId);
+    }
+
+    // Cancellations after the gate was loaded; earlier ones come from the database
+    @EventListener(condition = "#broadcast.event.aggregateType == 'Ticket' and #broadcast.event.eventType == 'Cancelled'")
+    public void onTicketCancelled(BroadcastEvent broadcast) {
+        DomainEvent event = broadcast.event();
+        Long eventId = ((Number) event.payload().get("eventId")).longValue();
+        Gate gate = gates.get(eventId);
+        if (gate != null) {
+            gate.cancelled().set(((Number) event.payload().get("sequence")).intValue());
+        }
+    }
+
+    // Archived or deleted events take no more scans; the gate would otherwise stay in memory for good
+    @EventListener(condition = "#broadcast.event.aggregateType == 'Event' and " +
+            "(#broadcast.event.eventType == 'Archived' or #broadcast.event.eventType == 'Deleted')")
+    public void onEventRemoved(BroadcastEvent broadcast) {
+        gates.remove(broadcast.event().aggregateId());
+    }
+
+    // The broadcast lags the commit and can miss events (Redis down, stream trimmed), and other instances
+    // check tickets in too, so loaded gates pick up cancellations and check-ins from the database as well
+    @Scheduled(fixedDelayString = "${app.checkin.refresh-ms:30000}")
+    public void refreshGates() {
+        for (Map.Entry<Long, Gate> entry : gates.entrySet()) {
+            Long eventId = entry.getKey();
+            try {
+                if (!eventRepository.existsById(eventId)) {
+                    gates.remove(eventId);
+                    continue;
+                }
+                Gate gate = entry.getValue();
+                ticketRepository.findCancelledSequences(eventId).forEach(gate.cancelled()::set);
+                ticketRepository.findCheckedInSequences(eventId).forEach(gate.checkedIn()::set);
+            } catch (Exception e) {
+                log.warn("Refreshing the gate of event {} failed: {}", eventId, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.checkin.flush-ms:1000}")
+    public void flush() {
+        PendingCheckIn next;
+        while ((next = pending.peek()) != null) {
+            Map<Long, Instant> batch = new HashMap<>();
+            while (batch.size() < flushBatchSize && (next = pending.poll()) != null) {
+                batch.merge(next.ticketId(), next.at(), (a, b) -> a.isBefore(b) ? a : b);
+            }
+            try {
+                ticketService.markCheckedIn(batch);
+            } catch (Exception e) {
+                // Keep them for the next tick; the gate already rejects repeats in the meantime
+                log.warn("Check-in sync of {} tickets failed, retrying: {}", batch.size(), e.getMessage());
+                batch.forEach((ticketId, at) -> pending.add(new PendingCheckIn(ticketId, at)));
+                return;
+            }
+        }
+    }
+
+    // Accepted scans only live in memory until flushed
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            log.error("{} check-ins could not be written back on shutdown", pending.size());
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    // Ownership is checked before a gate is built, so nobody else can make this instance load one
+    private Gate authorizedGate(Long eventId, CustomUserDetails user) {
+        Gate gate = gates.get(eventId);
+        if (gate == null) {
+            Event event = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new RuntimeException("Event not found"));
+            checkOwner(event.getOrganizer(), user);
+            return gates.computeIfAbsent(eventId, id -> buildGate(event));
+        }
+        checkOwner(gate.organizer(), user);
+        return gate;
+    }
+
+    private static void checkOwner(String organizer, CustomUserDetails user) {
+        if (!user.hasRole(Role.ADMIN) && !organizer.equals(user.getOrganization())) {
+            throw new RuntimeException("Not your event");
+        }
+    }
+
+    private Gate buildGate(Event event) {
+        Gate gate = new Gate(event.getOrganizer(),
+                new ConcurrentBitSet(event.getCapacity() + 1), new ConcurrentBitSet(event.getCapacity() + 1));
+        ticketRepository.findCheckedInSequences(event.getId()).forEach(gate.checkedIn()::set);
+        ticketRepository.findCancelledSequences(event.getId()).forEach(gate.cancelled()::set);
+        return gate;
+    }
+}
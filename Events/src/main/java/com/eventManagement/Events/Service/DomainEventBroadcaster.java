@@ -0,0 +1,106 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Utills.BroadcastEvent;
+import com.eventManagement.Events.Utills.DomainEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+// Runs on every instance: tails the outbox stream written by OutboxRelay and republishes each entry
+// in-process as a BroadcastEvent. No consumer group, each instance keeps its own position and starts
+// at the end of the stream; what happened before is covered by the ApplicationReadyEvent rebuilds.
+@Service
+public class DomainEventBroadcaster {
+
+    private static final Logger log = LoggerFactory.getLogger(DomainEventBroadcaster.class);
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.outbox.stream-key:domain-events}")
+    private String streamKey;
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    private volatile String lastId; // null until the end of the stream could be read
+
+    public DomainEventBroadcaster(StringRedisTemplate stringRedisTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ObjectMapper objectMapper) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+    }
+
+    // Before the ApplicationReadyEvent rebuilds, so nothing committed after they read falls in between
+    @PostConstruct
+    void start() {
+        try {
+            lastId = streamEnd();
+        } catch (Exception e) {
+            log.warn("Domain event stream not readable yet, starting from its end once it is: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.broadcast-poll-ms:500}")
+    public void poll() {
+        List<MapRecord<String, Object, Object>> records;
+        try {
+            if (lastId == null) {
+                lastId = streamEnd();
+                return;
+            }
+            records = stringRedisTemplate.opsForStream().read(StreamReadOptions.empty().count(batchSize),
+                    StreamOffset.create(streamKey, ReadOffset.from(lastId)));
+        } catch (Exception e) {
+            log.debug("Domain event broadcast skipped, Redis unavailable: {}", e.getMessage());
+            return;
+        }
+        if (records == null) {
+            return;
+        }
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                eventPublisher.publishEvent(new BroadcastEvent(toDomainEvent(record.getValue())));
+            } catch (Exception e) {
+                // Local state only; the next rebuild or change of the same aggregate repairs it
+                log.warn("Broadcast of stream entry {} failed: {}", record.getId(), e.getMessage());
+            }
+            lastId = record.getId().getValue();
+        }
+    }
+
+    private String streamEnd() {
+        List<MapRecord<String, Object, Object>> last = stringRedisTemplate.opsForStream()
+                .reverseRange(streamKey, Range.unbounded(), Limit.limit().count(1));
+        return last == null || last.isEmpty() ? "0-0" : last.get(0).getId().getValue();
+    }
+
+    private DomainEvent toDomainEvent(Map<Object, Object> fields) throws Exception {
+        Map<String, Object> payload = objectMapper.readValue((String) fields.get("payload"), PAYLOAD_TYPE);
+        Object occurredAt = fields.get("occurredAt");
+        return new DomainEvent(Long.valueOf((String) fields.get("outboxId")), (String) fields.get("aggregateType"),
+                Long.valueOf((String) fields.get("aggregateId")), (String) fields.get("eventType"), payload,
+                occurredAt != null ? Instant.parse((String) occurredAt) : Instant.now());
+    }
+}
@@ -4,25 +4,67 @@ package com.eventManagement.Events.Service;
 //}
 //package com.eventManagement.Events.Service;
 
+import com.eventManagement.Events.Entity.ArchivedEvent;
 import com.eventManagement.Events.Entity.EventCards;
+import com.eventManagement.Events.Repository.ArchivedEventRepository;
 import com.eventManagement.Events.Repository.EventCardsRepository;
+import com.eventManagement.Events.Utills.ArchiveCodec;
+import com.eventManagement.Events.Utills.DomainEvent;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class EventCardsService {
 
     private final EventCardsRepository eventCardsRepository;
+    private final OutboxService outboxService;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchiveCodec archiveCodec;
 
-    public EventCardsService(EventCardsRepository eventCardsRepository) {
+    public EventCardsService(EventCardsRepository eventCardsRepository, OutboxService outboxService,
+                             ArchivedEventRepository archivedEventRepository, ArchiveCodec archiveCodec) {
         this.eventCardsRepository = eventCardsRepository;
+        this.outboxService = outboxService;
+        this.archivedEventRepository = archivedEventRepository;
+        this.archiveCodec = archiveCodec;
     }
 
+    @Transactional(readOnly = true)
     public List<EventCards> getAll() {
         return eventCardsRepository.findAll();
     }
 
+    @Transactional
     public EventCards save(EventCards event) {
-        return eventCardsRepository.save(event);
+        boolean isNew = event.getId() == null || !eventCardsRepository.existsById(event.getId());
+        EventCards saved = eventCardsRepository.save(event);
+        outboxService.record(DomainEvent.EVENT_CARD, saved.getId(),
+                isNew ? DomainEvent.CREATED : DomainEvent.UPDATED,
+                Map.of("id", saved.getId(), "name", String.valueOf(saved.getName())));
+        return saved;
+    }
+
+    // Same as EventService.archiveEnded, for cards dated before the cutoff
+    @Transactional
+    public int archivePast(LocalDate cutoff, int limit) {
+        List<Long> ids = eventCardsRepository.findIdsDatedBefore(cutoff, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<EventCards> cards = eventCardsRepository.findAllById(ids);
+        for (EventCards card : cards) {
+            ArchiveCodec.Encoded encoded = archiveCodec.encode(card);
+            archivedEventRepository.save(new ArchivedEvent(DomainEvent.EVENT_CARD, card.getId(), card.getName(),
+                    card.getCategory(), card.getOrganizer(), card.getDate(), card.getDate(),
+                    encoded.rawBytes(), encoded.compressed()));
+            outboxService.record(DomainEvent.EVENT_CARD, card.getId(), DomainEvent.ARCHIVED,
+                    Map.of("id", card.getId(), "name", String.valueOf(card.getName())));
+        }
+        eventCardsRepository.deleteAll(cards);
+        return cards.size();
     }
 }
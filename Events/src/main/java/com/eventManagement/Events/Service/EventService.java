@@ -0,0 +1,184 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.ArchivedEvent;
+import com.eventManagement.Events.Entity.Event;
+import com.eventManagement.Events.Entity.TicketTier;
+import com.eventManagement.Events.Repository.ArchivedEventRepository;
+import com.eventManagement.Events.Repository.EventRepository;
+import com.eventManagement.Events.Utills.ArchiveCodec;
+import com.eventManagement.Events.Utills.DomainEvent;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+@Service
+public class EventService {
+
+    private final EventRepository eventRepository;
+    private final TicketTierService ticketTierService;
+    private final OutboxService outboxService;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchiveCodec archiveCodec;
+    private final EntityManager entityManager;
+
+    public EventService(EventRepository eventRepository,
+                        TicketTierService ticketTierService,
+                        OutboxService outboxService,
+                        ArchivedEventRepository archivedEventRepository,
+                        ArchiveCodec archiveCodec,
+                        EntityManager entityManager) {
+        this.eventRepository = eventRepository;
+        this.ticketTierService = ticketTierService;
+        this.outboxService = outboxService;
+        this.archivedEventRepository = archivedEventRepository;
+        this.archiveCodec = archiveCodec;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Event> getAll() {
+        return eventRepository.findAll();
+    }
+
+    @Transactional(readOnly = true)
+    public Event getById(Long id) {
+        return eventRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+    }
+
+    // Several events at once: hits come from the second-level cache, the misses from one IN query,
+    // and their tiers from one more (batch fetch). Unknown ids are left out; order follows the request.
+    @Transactional(readOnly = true)
+    public List<Event> getByIds(Collection<Long> ids) {
+        List<Event> events = entityManager.unwrap(Session.class)
+                .byMultipleIds(Event.class)
+                .with(CacheMode.NORMAL)
+                .multiLoad(new ArrayList<>(new LinkedHashSet<>(ids)));
+        List<Event> found = new ArrayList<>(events.size());
+        for (Event event : events) {
+            if (event != null) {
+                event.getTiers().size(); // initialize while the session is open
+                found.add(event);
+            }
+        }
+        return found;
+    }
+
+    @Transactional
+    public Event create(Event event) {
+        validateDates(event);
+        // Parse ticketTiers JSON once into TicketTier rows; sets minPrice and a default price
+        List<TicketTier> requestedTiers = event.getTiers();
+        event.setTiers(new ArrayList<>());
+        ticketTierService.applyTiers(event, event.getTicketTiers(), requestedTiers);
+        Event saved = eventRepository.save(event);
+
+        outboxService.record(DomainEvent.EVENT, saved.getId(), DomainEvent.CREATED, snapshot(saved));
+        return saved;
+    }
+
+    // Read + write in one transaction so the read is not served by a lagging replica
+    @Transactional
+    public Event update(Long id, Event updatedEvent) {
+        // Locked read from the database, not the per-instance cache: ticketsIssued and the tier sold
+        // counts are written back with the event and must not overwrite sales made meanwhile
+        Event event = eventRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        Map<String, Object> before = snapshot(event);
+
+        event.setName(updatedEvent.getName());
+        event.setDescription(updatedEvent.getDescription());
+        event.setCategory(updatedEvent.getCategory());
+        event.setStartDate(updatedEvent.getStartDate());
+        event.setEndDate(updatedEvent.getEndDate());
+        event.setLocation(updatedEvent.getLocation());
+        event.setCapacity(updatedEvent.getCapacity());
+        event.setTicketTiers(updatedEvent.getTicketTiers());
+        event.setPrice(updatedEvent.getPrice());
+        ticketTierService.applyTiers(event, updatedEvent.getTicketTiers(), updatedEvent.getTiers());
+        event.setImage(updatedEvent.getImage());
+        event.setAgenda(updatedEvent.getAgenda());
+        event.setOrganizer(updatedEvent.getOrganizer());
+        validateDates(event);
+
+        Event saved = eventRepository.save(event);
+
+        // Subscribers (e.g. notifications) need to know what changed, not just the new state
+        Map<String, Object> payload = snapshot(saved);
+        List<String> changed = new ArrayList<>();
+        for (Map.Entry<String, Object> entry : before.entrySet()) {
+            if (!Objects.equals(entry.getValue(), payload.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        payload.put("changed", changed);
+        payload.put("previous", before);
+        outboxService.record(DomainEvent.EVENT, saved.getId(), DomainEvent.UPDATED, payload);
+        return saved;
+    }
+
+    @Transactional
+    public void delete(Long id) {
+        Event event = eventRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        Map<String, Object> payload = snapshot(event);
+        eventRepository.delete(event);
+        outboxService.record(DomainEvent.EVENT, id, DomainEvent.DELETED, payload);
+    }
+
+    // Moves up to `limit` events that ended before the cutoff into archived_events, in one transaction.
+    // Tickets keep their event id; subscribers see Archived and drop the event from their views.
+    @Transactional
+    public int archiveEnded(LocalDate cutoff, int limit) {
+        List<Long> ids = eventRepository.findIdsEndedBefore(cutoff, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<Event> events = eventRepository.findAllById(ids);
+        for (Event event : events) {
+            ArchiveCodec.Encoded encoded = archiveCodec.encode(event);
+            archivedEventRepository.save(new ArchivedEvent(DomainEvent.EVENT, event.getId(), event.getName(),
+                    event.getCategory(), event.getOrganizer(), event.getStartDate(),
+                    event.getEndDate() != null ? event.getEndDate() : event.getStartDate(),
+                    encoded.rawBytes(), encoded.compressed()));
+            outboxService.record(DomainEvent.EVENT, event.getId(), DomainEvent.ARCHIVED, snapshot(event));
+        }
+        eventRepository.deleteAll(events);
+        return events.size();
+    }
+
+    // The catalog keeps [startDate, endDate] as a Postgres daterange, which rejects an upper bound below the lower
+    private static void validateDates(Event event) {
+        if (event.getStartDate() != null && event.getEndDate() != null
+                && event.getEndDate().isBefore(event.getStartDate())) {
+            throw new RuntimeException("End date cannot be before start date");
+        }
+    }
+
+    // Fields downstream consumers care about; keeps the outbox payload small
+    private Map<String, Object> snapshot(Event event) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("id", event.getId());
+        snapshot.put("name", event.getName());
+        snapshot.put("category", event.getCategory());
+        snapshot.put("startDate", event.getStartDate() != null ? event.getStartDate().toString() : null);
+        snapshot.put("endDate", event.getEndDate() != null ? event.getEndDate().toString() : null);
+        snapshot.put("location", event.getLocation());
+        snapshot.put("capacity", event.getCapacity());
+        snapshot.put("price", event.getPrice());
+        snapshot.put("minPrice", event.getMinPrice());
+        snapshot.put("organizer", event.getOrganizer());
+        Map<String, Integer> tierCapacities = new LinkedHashMap<>();
+        for (TicketTier tier : event.getTiers()) {
+            tierCapacities.put(tier.getType(), tier.getCapacity());
+        }
+        snapshot.put("tierCapacities", tierCapacities);
+        return snapshot;
+    }
+}
@@ -0,0 +1,273 @@
+package com.eventManagement.Events.Service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Pattern;
+
+// Content-addressed image store: <dir>/<first 2 hex>/<sha256>/original and fixed-size JPEG variants.
+// The same upload twice is stored once; variants are generated on a bounded worker pool.
+@Service
+public class ImageStorageService implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageStorageService.class);
+    private static final Pattern HASH = Pattern.compile("[0-9a-f]{64}");
+
+    // name -> {width, height}; both are cover-cropped to the exact size
+    public static final Map<String, int[]> VARIANTS = Map.of(
+            "card", new int[]{400, 300},   // event cards and banners in lists
+            "thumb", new int[]{160, 160}   // profile pictures, small previews
+    );
+
+    public static final String ORIGINAL = "original"; // file name of the upload itself
+
+    public record StoredImage(String hash, String contentType, long size) {}
+
+    private final Path root;
+    private final long maxPixels;
+    private final ThreadPoolExecutor workers;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ImageStorageService(@Value("${app.images.dir:./data/images}") String dir,
+                               @Value("${app.images.workers:2}") int workerCount,
+                               @Value("${app.images.queue-size:100}") int queueSize,
+                               @Value("${app.images.max-pixels:25000000}") long maxPixels) throws IOException {
+        this.root = Paths.get(dir).toAbsolutePath().normalize();
+        this.maxPixels = maxPixels;
+        Files.createDirectories(root);
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), r -> {
+                    Thread thread = new Thread(r, "image-worker");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public StoredImage store(MultipartFile file) throws IOException {
+        if (file.isEmpty()) {
+            throw new RuntimeException("Empty file");
+        }
+
+        // Stream to a temp file while hashing, so large uploads are never held in memory
+        Path tmp = Files.createTempFile(root, "upload-", ".tmp");
+        String hash;
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, tmp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            hash = HexFormat.of().formatHex(digest.digest());
+
+            String contentType = detectContentType(tmp);
+            if (contentType == null) {
+                throw new RuntimeException("Only JPEG, PNG and GIF images are supported");
+            }
+            // A few KB of PNG can decode to gigabytes; the header says how big it will be
+            checkDimensions(tmp);
+
+            Path original = original(hash);
+            if (!Files.exists(original)) {
+                Files.createDirectories(original.getParent());
+                try {
+                    Files.move(tmp, original, StandardCopyOption.ATOMIC_MOVE);
+                } catch (FileAlreadyExistsException ignored) {
+                    // same content uploaded concurrently
+                }
+            }
+            scheduleVariants(hash);
+            return new StoredImage(hash, contentType, Files.size(original));
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    // Path of the original or a variant; null when the hash/variant is unknown.
+    // A missing variant falls back to the original and is (re)generated in the background.
+    public Path resolve(String hash, String variant) {
+        if (!HASH.matcher(hash).matches()) {
+            return null;
+        }
+        Path original = original(hash);
+        if (!Files.exists(original)) {
+            return null;
+        }
+        if (variant == null) {
+            return original;
+        }
+        if (!VARIANTS.containsKey(variant)) {
+            return null;
+        }
+        Path path = variant(hash, variant);
+        if (Files.exists(path)) {
+            return path;
+        }
+        scheduleVariants(hash);
+        return original;
+    }
+
+    public String contentType(Path path) throws IOException {
+        String type = detectContentType(path);
+        return type != null ? type : "application/octet-stream";
+    }
+
+    private void scheduleVariants(String hash) {
+        if (!inFlight.add(hash)) {
+            return;
+        }
+        try {
+            workers.execute(() -> {
+                try {
+                    generateVariants(hash);
+                } catch (Exception e) {
+                    log.warn("Thumbnail generation failed for {}: {}", hash, e.getMessage());
+                } finally {
+                    inFlight.remove(hash);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Queue full: originals are served meanwhile, the next request retries
+            inFlight.remove(hash);
+        }
+    }
+
+    private void generateVariants(String hash) throws IOException {
+        BufferedImage source = null;
+        for (Map.Entry<String, int[]> entry : VARIANTS.entrySet()) {
+            Path target = variant(hash, entry.getKey());
+            if (Files.exists(target)) {
+                continue;
+            }
+            if (source == null) {
+                checkDimensions(original(hash)); // stored before the limit existed
+                source = ImageIO.read(original(hash).toFile());
+                if (source == null) {
+                    throw new IOException("Unreadable image");
+                }
+            }
+            BufferedImage scaled = coverCrop(source, entry.getValue()[0], entry.getValue()[1]);
+            Path tmp = Files.createTempFile(target.getParent(), entry.getKey(), ".tmp");
+            try {
+                writeJpeg(scaled, tmp);
+                Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+    }
+
+    // Scale to fill the box, then crop the overflow from the center
+    private static BufferedImage coverCrop(BufferedImage source, int width, int height) {
+        double scale = Math.max((double) width / source.getWidth(), (double) height / source.getHeight());
+        int scaledWidth = (int) Math.ceil(source.getWidth() * scale);
+        int scaledHeight = (int) Math.ceil(source.getHeight() * scale);
+
+        BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = result.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE); // transparent PNG/GIF areas
+            g.fillRect(0, 0, width, height);
+            g.drawImage(source, (width - scaledWidth) / 2, (height - scaledHeight) / 2, scaledWidth, scaledHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return result;
+    }
+
+    private static void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(0.82f);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    // Reads only the header, so nothing is decoded before the size is known to be acceptable
+    private void checkDimensions(Path path) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(path.toFile())) {
+            Iterator<ImageReader> readers = in == null ? Collections.emptyIterator() : ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                throw new RuntimeException("Unreadable image");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long width = reader.getWidth(0);
+                long height = reader.getHeight(0);
+                if (width * height > maxPixels) {
+                    throw new RuntimeException("Image too large: " + width + "x" + height
+                            + " pixels, at most " + maxPixels + " allowed");
+                }
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Magic bytes rather than the client supplied content type
+    private static String detectContentType(Path path) throws IOException {
+        byte[] head = new byte[8];
+        int read;
+        try (InputStream in = Files.newInputStream(path)) {
+            read = in.readNBytes(head, 0, head.length);
+        }
+        if (read >= 3 && (head[0] & 0xFF) == 0xFF && (head[1] & 0xFF) == 0xD8 && (head[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (read >= 8 && (head[0] & 0xFF) == 0x89 && head[1] == 'P' && head[2] == 'N' && head[3] == 'G') {
+            return "image/png";
+        }
+        if (read >= 4 && head[0] == 'G' && head[1] == 'I' && head[2] == 'F' && head[3] == '8') {
+            return "image/gif";
+        }
+        return null;
+    }
+
+    private Path original(String hash) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash).resolve(ORIGINAL);
+    }
+
+    private Path variant(String hash, String variant) {
+        return root.resolve(hash.substring(0, 2)).resolve(hash).resolve(variant + ".jpg");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        workers.shutdownNow();
+    }
+}
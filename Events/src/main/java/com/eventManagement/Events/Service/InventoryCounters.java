@@ -0,0 +1,171 @@
+package com.eventManagement.Events.Service;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// Remaining tickets per event in Redis: hash inventory:<eventId> with "t:<tier>" -> remaining in the
+// tier, "total" -> remaining event capacity and "seq" -> last ticket sequence handed out. The capacities the
+// counts were derived from sit next to it in inventory:<eventId>:capacity ("total", "t:<tier>").
+// Every change is one Lua script, so check-and-decrement is atomic across all app instances.
+@Component
+public class InventoryCounters {
+
+    public static final long SOLD_OUT = -1;
+    public static final long NOT_LOADED = -2;
+    public static final long UNKNOWN_TIER = -3;
+
+    static final String DIRTY_KEY = "inventory:dirty"; // events whose sales are not yet written back
+
+    // KEYS[1] inventory, KEYS[2] capacity; ARGV[1] total, ARGV[2] seq, ARGV[3] capacity, then tier field /
+    // remaining / capacity triples. A no-op when the key exists, so concurrent rebuilds cannot overwrite live counts.
+    private static final DefaultRedisScript<Long> INIT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end
+            redis.call('DEL', KEYS[2])
+            redis.call('HSET', KEYS[1], 'total', ARGV[1], 'seq', ARGV[2])
+            redis.call('HSET', KEYS[2], 'total', ARGV[3])
+            for i = 4, #ARGV, 3 do
+              redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+              redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2])
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1] inventory, KEYS[2] capacity; ARGV[1] new event capacity, then tier field / new capacity pairs
+    // for every tier the event now has. Shifts each remaining count by new - old capacity, adds new tiers
+    // and drops removed ones. Absolute targets, so a redelivered change is a no-op. Returns 0 when not loaded.
+    private static final DefaultRedisScript<Long> ADJUST = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            if redis.call('EXISTS', KEYS[2]) == 0 then return -2 end
+            local old = tonumber(redis.call('HGET', KEYS[2], 'total'))
+            redis.call('HINCRBY', KEYS[1], 'total', tonumber(ARGV[1]) - old)
+            redis.call('HSET', KEYS[2], 'total', ARGV[1])
+            local keep = {}
+            for i = 2, #ARGV, 2 do
+              keep[ARGV[i]] = true
+              local was = tonumber(redis.call('HGET', KEYS[2], ARGV[i]))
+              if was then
+                redis.call('HINCRBY', KEYS[1], ARGV[i], tonumber(ARGV[i + 1]) - was)
+              else
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+              end
+              redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+            end
+            for _, field in ipairs(redis.call('HKEYS', KEYS[2])) do
+              if field ~= 'total' and not keep[field] then
+                redis.call('HDEL', KEYS[1], field)
+                redis.call('HDEL', KEYS[2], field)
+              end
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1] inventory, KEYS[2] dirty set; ARGV[1] tier field, ARGV[2] event id. Returns the sequence or a code < 0.
+    private static final DefaultRedisScript<Long> RESERVE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return -2 end
+            local left = tonumber(redis.call('HGET', KEYS[1], ARGV[1]))
+            if not left then return -3 end
+            if left <= 0 or tonumber(redis.call('HGET', KEYS[1], 'total')) <= 0 then return -1 end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], -1)
+            redis.call('HINCRBY', KEYS[1], 'total', -1)
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return redis.call('HINCRBY', KEYS[1], 'seq', 1)
+            """, Long.class);
+
+    // Same keys and arguments; puts one ticket back. Nothing to do when the counters are gone,
+    // the next rebuild counts from the tickets table.
+    private static final DefaultRedisScript<Long> RELEASE = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+            if not redis.call('HGET', KEYS[1], ARGV[1]) then return 0 end
+            redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+            redis.call('HINCRBY', KEYS[1], 'total', 1)
+            redis.call('SADD', KEYS[2], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public InventoryCounters(StringRedisTemplate stringRedisTemplate) {
+        this.stringRedisTemplate = stringRedisTemplate;
+    }
+
+    // Remaining counts may be negative: capacity was cut below what is already sold
+    public boolean init(Long eventId, long remainingTotal, long lastSequence, Map<String, Long> remainingPerTier,
+                        long capacity, Map<String, Long> capacityPerTier) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(remainingTotal));
+        args.add(String.valueOf(lastSequence));
+        args.add(String.valueOf(capacity));
+        remainingPerTier.forEach((tier, remaining) -> {
+            args.add(tierField(tier));
+            args.add(String.valueOf(remaining));
+            args.add(String.valueOf(capacityPerTier.getOrDefault(tier, remaining)));
+        });
+        Long created = stringRedisTemplate.execute(INIT, List.of(key(eventId), capacityKey(eventId)), args.toArray());
+        return created != null && created == 1;
+    }
+
+    // Applies new capacities to live counters in place. False when there was nothing to adjust: not loaded,
+    // or loaded without capacities, in which case the counters are dropped and rebuilt on the next sale.
+    public boolean adjust(Long eventId, long capacity, Map<String, Long> capacityPerTier) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(capacity));
+        capacityPerTier.forEach((tier, tierCapacity) -> {
+            args.add(tierField(tier));
+            args.add(String.valueOf(tierCapacity));
+        });
+        Long result = stringRedisTemplate.execute(ADJUST, List.of(key(eventId), capacityKey(eventId)), args.toArray());
+        if (result != null && result == NOT_LOADED) {
+            evict(eventId);
+        }
+        return result != null && result == 1;
+    }
+
+    // Sequence of the reserved ticket, or SOLD_OUT / NOT_LOADED / UNKNOWN_TIER
+    public long reserve(Long eventId, String tierType) {
+        Long result = stringRedisTemplate.execute(RESERVE, List.of(key(eventId), DIRTY_KEY),
+                tierField(tierType), String.valueOf(eventId));
+        return result == null ? NOT_LOADED : result;
+    }
+
+    public void release(Long eventId, String tierType) {
+        stringRedisTemplate.execute(RELEASE, List.of(key(eventId), DIRTY_KEY),
+                tierField(tierType), String.valueOf(eventId));
+    }
+
+    // Forget the counters (event gone, admin reload); the next sale rebuilds them from the database
+    public void evict(Long eventId) {
+        stringRedisTemplate.delete(List.of(key(eventId), capacityKey(eventId)));
+    }
+
+    // Raw counters for the admin view; empty when not loaded
+    public Map<String, Long> get(Long eventId) {
+        Map<String, Long> counters = new LinkedHashMap<>();
+        stringRedisTemplate.<String, String>opsForHash().entries(key(eventId))
+                .forEach((field, value) -> counters.put(field, Long.parseLong(value)));
+        return counters;
+    }
+
+    public List<Long> popDirty(int max) {
+        List<String> ids = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, max);
+        return ids == null ? List.of() : ids.stream().map(Long::valueOf).toList();
+    }
+
+    public void markDirty(Long eventId) {
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, String.valueOf(eventId));
+    }
+
+    private static String key(Long eventId) {
+        return "inventory:" + eventId;
+    }
+
+    private static String capacityKey(Long eventId) {
+        return "inventory:" + eventId + ":capacity";
+    }
+
+    private static String tierField(String tierType) {
+        return "t:" + tierType;
+    }
+}
@@ -0,0 +1,160 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.Ticket;
+import com.eventManagement.Events.Service.TicketService.Cancellation;
+import com.eventManagement.Events.Service.TicketService.InventorySnapshot;
+import com.eventManagement.Events.Utills.DemandSignal;
+import com.eventManagement.Events.Utills.DomainEvent;
+import com.eventManagement.Events.Utills.InventoryMode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Entry point for ticket sales. In DATABASE mode every sale locks the event row (TicketService.purchase).
+// In REDIS mode the seat is taken by an atomic script in InventoryCounters, the ticket row is written
+// without the event lock, and tier sold counts are written back to Postgres in batches by flush().
+@Service
+public class InventoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryService.class);
+
+    private final TicketService ticketService;
+    private final InventoryCounters inventoryCounters;
+    private final PricingService pricingService;
+    private final InventoryMode mode;
+    private final int flushBatchSize;
+
+    public InventoryService(TicketService ticketService,
+                            InventoryCounters inventoryCounters,
+                            PricingService pricingService,
+                            @Value("${app.inventory.mode:DATABASE}") InventoryMode mode,
+                            @Value("${app.inventory.flush-batch-size:100}") int flushBatchSize) {
+        this.ticketService = ticketService;
+        this.inventoryCounters = inventoryCounters;
+        this.pricingService = pricingService;
+        this.mode = mode;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    // quote: the signed price quote from /api/events/{id}/prices; the sale fails if it is invalid or expired
+    public Ticket purchase(Long eventId, String tierType, Long userId, String quote) {
+        pricingService.recordDemand(eventId, DemandSignal.HOLD);
+        Ticket ticket = mode == InventoryMode.DATABASE
+                ? ticketService.purchase(eventId, tierType, userId, quote)
+                : purchaseFromCounters(eventId, tierType, userId, quote);
+        pricingService.recordDemand(eventId, DemandSignal.PURCHASE);
+        return ticket;
+    }
+
+    private Ticket purchaseFromCounters(Long eventId, String tierType, Long userId, String quote) {
+        long sequence = inventoryCounters.reserve(eventId, tierType);
+        if (sequence == InventoryCounters.NOT_LOADED) {
+            rebuild(eventId);
+            sequence = inventoryCounters.reserve(eventId, tierType);
+        }
+        if (sequence == InventoryCounters.SOLD_OUT) {
+            throw new RuntimeException("Sold out");
+        }
+        if (sequence == InventoryCounters.UNKNOWN_TIER) {
+            throw new RuntimeException("Unknown ticket tier: " + tierType);
+        }
+        if (sequence < 0) {
+            throw new RuntimeException("Inventory unavailable, please retry");
+        }
+
+        try {
+            return ticketService.issueReserved(eventId, tierType, userId, (int) sequence, quote);
+        } catch (RuntimeException e) {
+            // The seat was taken in Redis but no ticket was written: give it back
+            inventoryCounters.release(eventId, tierType);
+            throw e;
+        }
+    }
+
+    public Ticket cancel(Long ticketId, Long userId) {
+        if (mode == InventoryMode.DATABASE) {
+            return ticketService.cancel(ticketId, userId);
+        }
+
+        Cancellation cancellation = ticketService.cancelReserved(ticketId, userId);
+        if (cancellation.changed()) {
+            Ticket ticket = cancellation.ticket();
+            inventoryCounters.release(ticket.getEventId(), ticket.getTierType());
+        }
+        return cancellation.ticket();
+    }
+
+    // Loads the counters from the tickets table. A no-op when another instance got there first.
+    public InventorySnapshot rebuild(Long eventId) {
+        InventorySnapshot snapshot = ticketService.countInventory(eventId);
+        inventoryCounters.init(eventId, snapshot.remainingTotal(), snapshot.lastSequence(), snapshot.remainingPerTier(),
+                snapshot.capacity(), snapshot.capacityPerTier());
+        return snapshot;
+    }
+
+    // Admin: drop the live counters and load them again from Postgres
+    public Map<String, Long> reload(Long eventId) {
+        inventoryCounters.evict(eventId);
+        rebuild(eventId);
+        return inventoryCounters.get(eventId);
+    }
+
+    public Map<String, Long> getCounters(Long eventId) {
+        return inventoryCounters.get(eventId);
+    }
+
+    // New capacities are applied to the live counters in place. Dropping and recounting them instead would
+    // miss seats reserved in Redis whose ticket rows are not committed yet, and sell those seats twice.
+    @EventListener(condition = "#event.aggregateType == 'Event' and #event.eventType != 'Created'")
+    public void onEventChange(DomainEvent event) {
+        if (mode != InventoryMode.REDIS) {
+            return;
+        }
+        Map<String, Object> payload = event.payload();
+        if (DomainEvent.UPDATED.equals(event.eventType())) {
+            Object changed = payload.get("changed");
+            if (!(changed instanceof Collection<?> fields)
+                    || !(fields.contains("capacity") || fields.contains("tierCapacities"))) {
+                return;
+            }
+            Map<String, Long> tierCapacities = new LinkedHashMap<>();
+            if (payload.get("tierCapacities") instanceof Map<?, ?> tiers) {
+                tiers.forEach((tier, capacity) -> tierCapacities.put((String) tier, ((Number) capacity).longValue()));
+            }
+            inventoryCounters.adjust(event.aggregateId(), ((Number) payload.get("capacity")).longValue(), tierCapacities);
+        } else if (DomainEvent.DELETED.equals(event.eventType()) || DomainEvent.ARCHIVED.equals(event.eventType())) {
+            inventoryCounters.evict(event.aggregateId());
+        }
+    }
+
+    // Write-behind: events with Redis sales since the last run get their sold counts recomputed
+    @Scheduled(fixedDelayString = "${app.inventory.flush-ms:2000}")
+    public void flush() {
+        if (mode != InventoryMode.REDIS) {
+            return;
+        }
+        List<Long> dirty;
+        try {
+            dirty = inventoryCounters.popDirty(flushBatchSize);
+        } catch (Exception e) {
+            log.debug("Inventory write-back skipped, Redis unavailable: {}", e.getMessage());
+            return;
+        }
+        for (Long eventId : dirty) {
+            try {
+                ticketService.reconcileSold(eventId);
+            } catch (Exception e) {
+                log.warn("Inventory write-back of event {} failed, will retry: {}", eventId, e.getMessage());
+                inventoryCounters.markDirty(eventId);
+            }
+        }
+    }
+}
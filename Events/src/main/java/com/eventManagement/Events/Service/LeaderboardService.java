@@ -0,0 +1,169 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.EventCards;
+import com.eventManagement.Events.Repository.EventCardsRepository;
+import com.eventManagement.Events.Utills.BroadcastEvent;
+import com.eventManagement.Events.Utills.DomainEvent;
+import com.eventManagement.Events.Utills.Leaderboard;
+import com.eventManagement.Events.Utills.LeaderboardType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// "Featured events": event card rankings kept in memory, overall and per category, each a
+// Leaderboard that is patched in O(log n) when a card changes instead of sorted per request.
+// Trending uses forward decay: growth is added with weight 2^(age of the landmark / half-life), so
+// older scores never need to be touched as time passes; the weight is rebased before it overflows.
+// The growth is that of EventCards.attendees. Cards are standalone listings with no tickets and no link
+// to an Event, so Ticket Purchased cannot be attributed to them; the attendee count their organizer
+// reports is the only activity signal a card has. Sales of ticketed events are tracked in the rollups.
+@Service
+public class LeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(LeaderboardService.class);
+    private static final double MAX_WEIGHT = 0x1p64;
+
+    public record RankedCard(Long id, String name, String category, LocalDate date, String location,
+                             String image, double price, double rating, int attendees, double score) {}
+
+    private record Card(EventCards source, String categoryKey) {}
+
+    private record Boards(Map<LeaderboardType, Leaderboard<Card>> overall,
+                          Map<String, Map<LeaderboardType, Leaderboard<Card>>> byCategory,
+                          Map<Long, Card> cards) {}
+
+    private final EventCardsRepository eventCardsRepository;
+    private final double halfLifeMs;
+
+    private volatile Boards boards = emptyBoards();
+    private volatile long landmarkMs = System.currentTimeMillis();
+
+    public LeaderboardService(EventCardsRepository eventCardsRepository,
+                              @Value("${app.leaderboard.trending-half-life-hours:6}") double halfLifeHours) {
+        this.eventCardsRepository = eventCardsRepository;
+        this.halfLifeMs = halfLifeHours * 3_600_000;
+    }
+
+    public List<RankedCard> getTop(LeaderboardType type, String category, int limit) {
+        Boards current = boards;
+        Map<LeaderboardType, Leaderboard<Card>> rankings = category == null || category.isBlank()
+                ? current.overall()
+                : current.byCategory().get(categoryKey(category));
+        if (rankings == null) {
+            return List.of();
+        }
+        double trendingWeight = type == LeaderboardType.TRENDING ? weight(System.currentTimeMillis()) : 1.0;
+        List<RankedCard> top = new ArrayList<>(limit);
+        for (Leaderboard.Ranked<Card> ranked : rankings.get(type).top(limit)) {
+            EventCards c = ranked.item().source();
+            top.add(new RankedCard(c.getId(), c.getName(), c.getCategory(), c.getDate(), c.getLocation(),
+                    c.getImage(), c.getPrice(), c.getRating(), c.getAttendees(), ranked.score() / trendingWeight));
+        }
+        return top;
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Boards rebuilt = emptyBoards();
+        for (EventCards card : eventCardsRepository.findAll()) {
+            upsert(rebuilt, card, 0);
+        }
+        boards = rebuilt;
+        log.info("Leaderboards built for {} event cards", rebuilt.cards().size());
+    }
+
+    // Attendee growth since the last version of the card is what makes it trend; drops count as zero
+    @Transactional(readOnly = true)
+    @EventListener(condition = "#broadcast.event.aggregateType == 'EventCards'")
+    public synchronized void onCardChange(BroadcastEvent broadcast) {
+        DomainEvent event = broadcast.event();
+        Long id = event.aggregateId();
+        Optional<EventCards> card = DomainEvent.DELETED.equals(event.eventType())
+                ? Optional.empty()
+                : eventCardsRepository.findById(id);
+        if (card.isEmpty()) {
+            remove(boards, id);
+            return;
+        }
+        Card previous = boards.cards().get(id);
+        int growth = previous == null ? 0 : card.get().getAttendees() - previous.source().getAttendees();
+        upsert(boards, card.get(), Math.max(0, growth));
+    }
+
+    private void upsert(Boards target, EventCards source, int attendeeGrowth) {
+        long id = source.getId();
+        Card previous = target.cards().get(id);
+        Card card = new Card(source, categoryKey(source.getCategory()));
+
+        // Carry the trending score over, also when the card moves to another category
+        Double trendingScore = target.overall().get(LeaderboardType.TRENDING).score(id);
+        double trending = (trendingScore != null ? trendingScore : 0) + attendeeGrowth * weight(System.currentTimeMillis());
+        if (previous != null && !previous.categoryKey().equals(card.categoryKey())) {
+            remove(target, id);
+        }
+        target.cards().put(id, card);
+
+        for (Map<LeaderboardType, Leaderboard<Card>> rankings
+                : List.of(target.overall(), target.byCategory().computeIfAbsent(card.categoryKey(), k -> newRankings()))) {
+            rankings.get(LeaderboardType.RATING).put(id, source.getRating(), source.getAttendees(), card);
+            rankings.get(LeaderboardType.ATTENDEES).put(id, source.getAttendees(), source.getRating(), card);
+            rankings.get(LeaderboardType.TRENDING).put(id, trending, source.getAttendees(), card);
+        }
+    }
+
+    private void remove(Boards target, Long id) {
+        Card previous = target.cards().remove(id);
+        if (previous == null) {
+            return;
+        }
+        target.overall().values().forEach(board -> board.remove(id));
+        Map<LeaderboardType, Leaderboard<Card>> category = target.byCategory().get(previous.categoryKey());
+        if (category != null) {
+            category.values().forEach(board -> board.remove(id));
+        }
+    }
+
+    // Forward-decay weight of an increment made now; rebased (all trending scores scaled down) when large
+    private double weight(long nowMs) {
+        double weight = Math.pow(2, (nowMs - landmarkMs) / halfLifeMs);
+        if (weight > MAX_WEIGHT) {
+            synchronized (this) {
+                weight = Math.pow(2, (nowMs - landmarkMs) / halfLifeMs);
+                if (weight > MAX_WEIGHT) {
+                    double factor = 1 / weight;
+                    Boards current = boards;
+                    current.overall().get(LeaderboardType.TRENDING).rescale(factor);
+                    current.byCategory().values().forEach(r -> r.get(LeaderboardType.TRENDING).rescale(factor));
+                    landmarkMs = nowMs;
+                    weight = 1.0;
+                }
+            }
+        }
+        return weight;
+    }
+
+    private static Boards emptyBoards() {
+        return new Boards(newRankings(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private static Map<LeaderboardType, Leaderboard<Card>> newRankings() {
+        Map<LeaderboardType, Leaderboard<Card>> rankings = new EnumMap<>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            rankings.put(type, new Leaderboard<>());
+        }
+        return rankings;
+    }
+
+    private static String categoryKey(String category) {
+        return category == null ? "" : category.trim().toLowerCase(Locale.ROOT);
+    }
+}
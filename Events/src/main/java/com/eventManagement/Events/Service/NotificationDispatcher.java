@@ -0,0 +1,489 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.Notification;
+import com.eventManagement.Events.Entity.NotificationJob;
+import com.eventManagement.Events.Repository.NotificationJobRepository;
+import com.eventManagement.Events.Repository.NotificationRepository;
+import com.eventManagement.Events.Repository.TicketRepository;
+import com.eventManagement.Events.Utills.NotificationRecipient;
+import com.eventManagement.Events.Utills.TokenBucket;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Fans one event change out to all ticket holders off the request thread.
+// A job is split into keyset pages of recipients; pages are spread over partitioned
+// single-threaded queues, templates are rendered once per locale per job, and each
+// channel is throttled by its own token bucket. Failed sends are retried with backoff; a retry
+// carries only the recipients the failing channel did not reach, so nobody gets a message twice.
+// Jobs are rows in notification_jobs with a cursor (last user id) up to which all pages are done; the
+// owning instance heartbeats them, and a job whose owner stopped (restart, crash) is taken over by any
+// instance and resumed from the cursor. Pages finished after the cursor are sent again on resume.
+@Service
+public class NotificationDispatcher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationDispatcher.class);
+    private static final int RATE_WINDOW_SECONDS = 10;
+
+    public enum Channel { EMAIL, IN_APP }
+
+    private final TicketRepository ticketRepository;
+    private final NotificationRepository notificationRepository;
+    private final NotificationJobRepository notificationJobRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<JavaMailSender> mailSender;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<Long, RunningJob> running = new ConcurrentHashMap<>();
+    private final ResourceBundleMessageSource templates = new ResourceBundleMessageSource();
+
+    private final List<BlockingQueue<PageTask>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private final ScheduledExecutorService retryScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "notification-retry");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<Channel, TokenBucket> rateLimits = new EnumMap<>(Channel.class);
+
+    // Stats
+    private final Map<Channel, AtomicLong> sent = new EnumMap<>(Channel.class);
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong jobs = new AtomicLong();
+    private final AtomicLongArray perSecond = new AtomicLongArray(RATE_WINDOW_SECONDS);
+    private final AtomicLongArray perSecondStamp = new AtomicLongArray(RATE_WINDOW_SECONDS);
+
+    private final int pageSize;
+    private final int maxAttempts;
+    private final long backoffMs;
+    private final String fromAddress;
+    private final long staleMs;
+
+    public NotificationDispatcher(TicketRepository ticketRepository,
+                                  NotificationRepository notificationRepository,
+                                  NotificationJobRepository notificationJobRepository,
+                                  ObjectMapper objectMapper,
+                                  ObjectProvider<JavaMailSender> mailSender,
+                                  @Value("${app.notifications.partitions:4}") int partitions,
+                                  @Value("${app.notifications.page-size:500}") int pageSize,
+                                  @Value("${app.notifications.email-per-second:50}") double emailPerSecond,
+                                  @Value("${app.notifications.in-app-per-second:5000}") double inAppPerSecond,
+                                  @Value("${app.notifications.max-attempts:5}") int maxAttempts,
+                                  @Value("${app.notifications.backoff-ms:1000}") long backoffMs,
+                                  @Value("${app.notifications.from:no-reply@events.local}") String fromAddress,
+                                  @Value("${app.notifications.stale-ms:60000}") long staleMs) {
+        this.ticketRepository = ticketRepository;
+        this.notificationRepository = notificationRepository;
+        this.notificationJobRepository = notificationJobRepository;
+        this.objectMapper = objectMapper;
+        this.mailSender = mailSender;
+        this.pageSize = pageSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.fromAddress = fromAddress;
+        this.staleMs = staleMs;
+
+        templates.setBasename("notifications");
+        templates.setDefaultEncoding("UTF-8");
+        templates.setFallbackToSystemLocale(false);
+
+        rateLimits.put(Channel.EMAIL, new TokenBucket(emailPerSecond, emailPerSecond));
+        rateLimits.put(Channel.IN_APP, new TokenBucket(inAppPerSecond, inAppPerSecond));
+        for (Channel channel : Channel.values()) {
+            sent.put(channel, new AtomicLong());
+        }
+
+        for (int i = 0; i < partitions; i++) {
+            BlockingQueue<PageTask> queue = new LinkedBlockingQueue<>();
+            queues.add(queue);
+            Thread worker = new Thread(() -> work(queue), "notification-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    // Entry point: template key (e.g. "event.updated") plus the template arguments. The job row is
+    // committed before this returns, so the outbox event is only marked published once the job is durable;
+    // a redelivery of the same outbox event finds the row and starts nothing.
+    public void submit(Long outboxId, Long eventId, String templateKey, Object[] args, Set<Channel> channels) {
+        NotificationJob row;
+        try {
+            row = notificationJobRepository.save(new NotificationJob(outboxId, eventId, templateKey,
+                    objectMapper.writeValueAsString(args), channelsToString(channels), instanceId));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Notification job for outbox event {} already submitted", outboxId);
+            return;
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize notification arguments of " + templateKey, e);
+        }
+        start(row);
+    }
+
+    private void start(NotificationJob row) {
+        Object[] args;
+        try {
+            args = objectMapper.readValue(row.getArgs(), Object[].class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unreadable arguments of notification job " + row.getId(), e);
+        }
+        RunningJob job = new RunningJob(row.getId(), row.getEventId(), row.getTemplateKey(), args,
+                channelsFromString(row.getChannels()), row.getLastUserId());
+        running.put(job.id, job);
+        jobs.incrementAndGet();
+        enqueue(new PageTask(job, job.cursor, 0, null, 1, null, false));
+    }
+
+    // Keeps this instance's jobs alive and takes over those whose owner went away
+    @Scheduled(fixedDelayString = "${app.notifications.heartbeat-ms:10000}")
+    public void heartbeat() {
+        Instant now = Instant.now();
+        try {
+            if (!running.isEmpty()) {
+                notificationJobRepository.heartbeat(new ArrayList<>(running.keySet()), instanceId, now);
+            }
+            Instant cutoff = now.minusMillis(staleMs);
+            for (NotificationJob row : notificationJobRepository.findStale(cutoff, PageRequest.of(0, 10))) {
+                if (!running.containsKey(row.getId())
+                        && notificationJobRepository.claim(row.getId(), instanceId, now, cutoff) == 1) {
+                    log.info("Resuming notification job {} of event {} after user {}",
+                            row.getId(), row.getEventId(), row.getLastUserId());
+                    start(row);
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Notification job heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    // Finished jobs are only kept so a late outbox redelivery still finds them
+    @Scheduled(cron = "${app.notifications.cleanup-cron:0 30 * * * *}")
+    public void deleteFinished() {
+        notificationJobRepository.deleteFinishedBefore(Instant.now().minus(Duration.ofDays(7)));
+    }
+
+    private void enqueue(PageTask task) {
+        int partition = (int) Math.floorMod(task.job.id * 31 + task.pageNo, (long) queues.size());
+        queues.get(partition).add(task);
+    }
+
+    private void work(BlockingQueue<PageTask> queue) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                process(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("Notification worker error", e);
+            }
+        }
+    }
+
+    private void process(PageTask task) throws InterruptedException {
+        if (task.job.released) {
+            return;
+        }
+        if (task.unsent == null) {
+            // Reading the page goes through the same retry and backoff as sending it
+            List<NotificationRecipient> page;
+            try {
+                page = ticketRepository.findHolderPage(task.job.eventId, task.afterUserId, PageRequest.of(0, pageSize));
+            } catch (RuntimeException e) {
+                log.warn("Notification page {} of job {} could not be read (attempt {}): {}",
+                        task.pageNo, task.job.id, task.attempt, e.getMessage());
+                if (task.attempt >= maxAttempts) {
+                    // Nothing after this page is known; let the job go stale and be resumed from its cursor
+                    log.error("Releasing notification job {} after {} failed reads of page {}",
+                            task.job.id, maxAttempts, task.pageNo);
+                    release(task.job);
+                    return;
+                }
+                retry(new PageTask(task.job, task.afterUserId, task.pageNo, null, task.attempt + 1, null, false));
+                return;
+            }
+
+            boolean lastPage = page.size() < pageSize;
+            if (page.isEmpty()) {
+                pageDone(task.job, task.pageNo, task.afterUserId, true);
+                return;
+            }
+            Long lastUserId = page.get(page.size() - 1).userId();
+            // Queue the next page first so other partitions can work on it in parallel
+            if (!lastPage) {
+                enqueue(new PageTask(task.job, lastUserId, task.pageNo + 1, null, 1, null, false));
+            }
+            Map<Channel, List<NotificationRecipient>> everyone = new EnumMap<>(Channel.class);
+            task.job.channels.forEach(channel -> everyone.put(channel, page));
+            task = new PageTask(task.job, task.afterUserId, task.pageNo, everyone, task.attempt, lastUserId, lastPage);
+        }
+
+        Map<Channel, List<NotificationRecipient>> unsent = new EnumMap<>(Channel.class);
+        for (Map.Entry<Channel, List<NotificationRecipient>> entry : task.unsent.entrySet()) {
+            Channel channel = entry.getKey();
+            List<NotificationRecipient> recipients = entry.getValue();
+            try {
+                send(channel, task.job, recipients);
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (PartialSendException e) {
+                log.warn("Notification page {} of job {} failed on {} for {} of {} recipients (attempt {}): {}",
+                        task.pageNo, task.job.id, channel, e.unsent.size(), recipients.size(), task.attempt,
+                        e.getCause().getMessage());
+                unsent.put(channel, e.unsent);
+            } catch (Exception e) {
+                // Failed before anything went out (e.g. rendering)
+                log.warn("Notification page {} of job {} failed on {} (attempt {}): {}",
+                        task.pageNo, task.job.id, channel, task.attempt, e.getMessage());
+                unsent.put(channel, recipients);
+            }
+        }
+
+        if (!unsent.isEmpty() && task.attempt < maxAttempts) {
+            retry(new PageTask(task.job, task.afterUserId, task.pageNo, unsent, task.attempt + 1,
+                    task.lastUserId, task.lastPage));
+            return;
+        }
+        if (!unsent.isEmpty()) {
+            unsent.values().forEach(recipients -> failed.addAndGet(recipients.size()));
+            log.error("Dropping notification page {} of job {} after {} attempts", task.pageNo, task.job.id, maxAttempts);
+        }
+        pageDone(task.job, task.pageNo, task.lastUserId, task.lastPage);
+    }
+
+    private void retry(PageTask task) {
+        retried.incrementAndGet();
+        long delay = backoffMs * (1L << Math.min(task.attempt - 2, 10))
+                + ThreadLocalRandom.current().nextLong(backoffMs / 2 + 1);
+        retryScheduler.schedule(() -> enqueue(task), delay, TimeUnit.MILLISECONDS);
+    }
+
+    // Pages finish out of order across partitions; the stored cursor only moves over an unbroken run of them
+    private void pageDone(RunningJob job, int pageNo, Long lastUserId, boolean lastPage) {
+        synchronized (job) {
+            job.donePages.put(pageNo, lastUserId);
+            if (lastPage) {
+                job.lastPageNo = pageNo;
+            }
+            Long cursor = null;
+            while (job.donePages.containsKey(job.nextPageNo)) {
+                cursor = job.donePages.remove(job.nextPageNo++);
+            }
+            if (cursor == null || job.released) {
+                return;
+            }
+            job.cursor = cursor;
+            boolean finished = job.lastPageNo != null && job.nextPageNo > job.lastPageNo;
+            try {
+                int updated = finished
+                        ? notificationJobRepository.finish(job.id, instanceId, cursor, Instant.now())
+                        : notificationJobRepository.advance(job.id, instanceId, cursor);
+                if (updated == 0) {
+                    log.warn("Notification job {} was taken over by another instance", job.id);
+                    release(job);
+                } else if (finished) {
+                    running.remove(job.id);
+                }
+            } catch (RuntimeException e) {
+                // The next page moves it further; until then a resume repeats a little more
+                log.warn("Progress of notification job {} not saved: {}", job.id, e.getMessage());
+            }
+        }
+    }
+
+    // Stops working on the job here; its heartbeat ends, so it is resumed once stale
+    private void release(RunningJob job) {
+        job.released = true;
+        running.remove(job.id);
+    }
+
+    private static String channelsToString(Set<Channel> channels) {
+        return String.join(",", channels.stream().map(Channel::name).toList());
+    }
+
+    private static EnumSet<Channel> channelsFromString(String channels) {
+        EnumSet<Channel> result = EnumSet.noneOf(Channel.class);
+        for (String channel : channels.split(",")) {
+            result.add(Channel.valueOf(channel));
+        }
+        return result;
+    }
+
+    // Stops at the first failed chunk; the exception lists who in that chunk and after it was not reached
+    private void send(Channel channel, RunningJob job, List<NotificationRecipient> page) throws InterruptedException {
+        TokenBucket limiter = rateLimits.get(channel);
+        int chunkSize = Math.max(1, limiter.maxBatch());
+        for (int from = 0; from < page.size(); from += chunkSize) {
+            List<NotificationRecipient> chunk = page.subList(from, Math.min(page.size(), from + chunkSize));
+            List<NotificationRecipient> later = page.subList(from + chunk.size(), page.size());
+            limiter.acquire(chunk.size());
+
+            if (channel == Channel.EMAIL) {
+                JavaMailSender sender = mailSender.getIfAvailable();
+                if (sender == null) {
+                    return; // no spring.mail.host configured, email channel disabled
+                }
+                SimpleMailMessage[] messages = new SimpleMailMessage[chunk.size()];
+                for (int i = 0; i < chunk.size(); i++) {
+                    Rendered rendered = job.render(chunk.get(i).locale());
+                    SimpleMailMessage message = new SimpleMailMessage();
+                    message.setFrom(fromAddress);
+                    message.setTo(chunk.get(i).email());
+                    message.setSubject(rendered.subject);
+                    message.setText(rendered.body);
+                    messages[i] = message;
+                }
+                // One SMTP session for the whole chunk
+                try {
+                    sender.send(messages);
+                } catch (RuntimeException e) {
+                    throw new PartialSendException(notReached(chunk, messages, e, later), e);
+                }
+            } else {
+                List<Notification> rows = new ArrayList<>(chunk.size());
+                for (NotificationRecipient recipient : chunk) {
+                    Rendered rendered = job.render(recipient.locale());
+                    rows.add(new Notification(recipient.userId(), job.eventId, rendered.subject, rendered.body));
+                }
+                try {
+                    notificationRepository.saveAll(rows);
+                } catch (RuntimeException e) {
+                    throw new PartialSendException(concat(chunk, later), e);
+                }
+            }
+            sent.get(channel).addAndGet(chunk.size());
+            recordRate(chunk.size());
+        }
+    }
+
+    // The mail sender keeps going after a failed message and reports the failed ones; anything else
+    // (connection, authentication) means nobody in the chunk can be assumed to have it
+    private static List<NotificationRecipient> notReached(List<NotificationRecipient> chunk, SimpleMailMessage[] messages,
+                                                          RuntimeException error, List<NotificationRecipient> later) {
+        if (!(error instanceof MailSendException mailError) || mailError.getFailedMessages().isEmpty()) {
+            return concat(chunk, later);
+        }
+        List<NotificationRecipient> failedRecipients = new ArrayList<>();
+        for (int i = 0; i < messages.length; i++) {
+            if (mailError.getFailedMessages().containsKey(messages[i])) {
+                failedRecipients.add(chunk.get(i));
+            }
+        }
+        return concat(failedRecipients, later);
+    }
+
+    private static List<NotificationRecipient> concat(List<NotificationRecipient> first, List<NotificationRecipient> second) {
+        List<NotificationRecipient> all = new ArrayList<>(first.size() + second.size());
+        all.addAll(first);
+        all.addAll(second);
+        return all;
+    }
+
+    private void recordRate(int count) {
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second % RATE_WINDOW_SECONDS);
+        if (perSecondStamp.get(slot) != second) {
+            perSecondStamp.set(slot, second);
+            perSecond.set(slot, 0);
+        }
+        perSecond.addAndGet(slot, count);
+    }
+
+    public Map<String, Object> getStats() {
+        long now = System.currentTimeMillis() / 1000;
+        long recent = 0;
+        for (int i = 0; i < RATE_WINDOW_SECONDS; i++) {
+            if (now - perSecondStamp.get(i) < RATE_WINDOW_SECONDS) {
+                recent += perSecond.get(i);
+            }
+        }
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("jobs", jobs.get());
+        stats.put("runningJobs", running.size());
+        stats.put("sentEmail", sent.get(Channel.EMAIL).get());
+        stats.put("sentInApp", sent.get(Channel.IN_APP).get());
+        stats.put("failed", failed.get());
+        stats.put("retried", retried.get());
+        stats.put("messagesPerSecond", (double) recent / RATE_WINDOW_SECONDS);
+        stats.put("queued", queues.stream().mapToInt(BlockingQueue::size).sum());
+        return stats;
+    }
+
+    @Override
+    public void destroy() {
+        workers.forEach(Thread::interrupt);
+        retryScheduler.shutdownNow();
+    }
+
+    private record Rendered(String subject, String body) {}
+
+    // unsent is null until the page has been read; afterwards a retry sends to unsent, per channel,
+    // instead of reading the page again
+    private record PageTask(RunningJob job, Long afterUserId, int pageNo,
+                            Map<Channel, List<NotificationRecipient>> unsent, int attempt,
+                            Long lastUserId, boolean lastPage) {}
+
+    private static final class PartialSendException extends RuntimeException {
+        private final List<NotificationRecipient> unsent;
+
+        private PartialSendException(List<NotificationRecipient> unsent, RuntimeException cause) {
+            super(cause);
+            this.unsent = unsent;
+        }
+    }
+
+    private final class RunningJob {
+        private final long id;
+        private final Long eventId;
+        private final String templateKey;
+        private final Object[] args;
+        private final EnumSet<Channel> channels;
+        private final ConcurrentHashMap<String, Rendered> renderedByLocale = new ConcurrentHashMap<>();
+
+        // Progress, guarded by the job: page numbers count from the cursor the job (re)started at
+        private final TreeMap<Integer, Long> donePages = new TreeMap<>();
+        private int nextPageNo;
+        private Integer lastPageNo;
+        private Long cursor;
+        private volatile boolean released;
+
+        private RunningJob(long id, Long eventId, String templateKey, Object[] args, EnumSet<Channel> channels,
+                           Long cursor) {
+            this.id = id;
+            this.eventId = eventId;
+            this.templateKey = templateKey;
+            this.args = args;
+            this.channels = channels;
+            this.cursor = cursor;
+        }
+
+        // Rendered once per locale per job, then shared by every recipient with that locale
+        private Rendered render(String locale) {
+            String tag = locale == null || locale.isBlank() ? "en" : locale;
+            return renderedByLocale.computeIfAbsent(tag, key -> {
+                Locale target = Locale.forLanguageTag(key);
+                return new Rendered(
+                        templates.getMessage(templateKey + ".subject", args, target),
+                        templates.getMessage(templateKey + ".body", args, target));
+            });
+        }
+    }
+}
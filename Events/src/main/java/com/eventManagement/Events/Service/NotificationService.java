@@ -0,0 +1,58 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.Notification;
+import com.eventManagement.Events.Repository.NotificationRepository;
+import com.eventManagement.Events.Service.NotificationDispatcher.Channel;
+import com.eventManagement.Events.Utills.DomainEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+// Turns event changes into ticket holder notifications
+@Service
+public class NotificationService {
+
+    // Only these changes matter to someone already holding a ticket
+    private static final Set<String> NOTIFY_ON = Set.of("startDate", "endDate", "location");
+
+    private final NotificationDispatcher dispatcher;
+    private final NotificationRepository notificationRepository;
+
+    public NotificationService(NotificationDispatcher dispatcher, NotificationRepository notificationRepository) {
+        this.dispatcher = dispatcher;
+        this.notificationRepository = notificationRepository;
+    }
+
+    @EventListener(condition = "#event.aggregateType == 'Event'")
+    public void onEventChanged(DomainEvent event) {
+        Map<String, Object> payload = event.payload();
+        String templateKey;
+        if (DomainEvent.UPDATED.equals(event.eventType())) {
+            Object changed = payload.get("changed");
+            if (!(changed instanceof Collection<?> fields) || fields.stream().noneMatch(NOTIFY_ON::contains)) {
+                return;
+            }
+            templateKey = "event.updated";
+        } else if (DomainEvent.DELETED.equals(event.eventType())) {
+            templateKey = "event.cancelled";
+        } else {
+            return;
+        }
+
+        Object[] args = {
+                payload.get("name"),
+                Objects.toString(payload.get("startDate"), "TBA"),
+                Objects.toString(payload.get("endDate"), "TBA"),
+                payload.get("location")
+        };
+        // The outbox delivers at least once; the dispatcher keeps one job per outbox id
+        dispatcher.submit(event.outboxId(), event.aggregateId(), templateKey, args, EnumSet.of(Channel.EMAIL, Channel.IN_APP));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Notification> getLatest(Long userId) {
+        return notificationRepository.findTop50ByUserIdOrderByCreatedAtDesc(userId);
+    }
+}
@@ -0,0 +1,193 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.OutboxEvent;
+import com.eventManagement.Events.Repository.OutboxEventRepository;
+import com.eventManagement.Events.Repository.ProcessedOutboxEventRepository;
+import com.eventManagement.Events.Utills.DomainEvent;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+// Delivers committed outbox rows to in-process @EventListener subscribers and to the Redis stream.
+// At-least-once: rows are marked published only after delivery, so a crash means re-delivery, never loss.
+// Only the instance holding the relay lock publishes DomainEvent, i.e. once per cluster: right for shared
+// side effects (database, Redis, mail). State kept in memory per instance must listen to BroadcastEvent,
+// which DomainEventBroadcaster publishes on every instance from the stream.
+@Service
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final String LOCK_KEY = "outbox:relay:lock";
+    private static final TypeReference<Map<String, Object>> PAYLOAD_TYPE = new TypeReference<>() {};
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ProcessedOutboxEventRepository processedOutboxEventRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.stream-key:domain-events}")
+    private String streamKey;
+
+    @Value("${app.outbox.stream-max-len:100000}")
+    private long streamMaxLen;
+
+    @Value("${app.outbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${app.outbox.backoff-ms:1000}")
+    private long backoffMs;
+
+    @Value("${app.outbox.max-backoff-ms:300000}")
+    private long maxBackoffMs;
+
+    @Value("${app.outbox.retention-hours:24}")
+    private long retentionHours;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       ProcessedOutboxEventRepository processedOutboxEventRepository,
+                       ApplicationEventPublisher eventPublisher,
+                       StringRedisTemplate stringRedisTemplate,
+                       ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.processedOutboxEventRepository = processedOutboxEventRepository;
+        this.eventPublisher = eventPublisher;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-ms:500}")
+    public void relay() {
+        // One relay at a time across instances keeps per-aggregate order
+        Boolean locked;
+        try {
+            locked = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, instanceId, Duration.ofSeconds(30));
+        } catch (Exception e) {
+            log.debug("Outbox relay skipped, Redis unavailable: {}", e.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(locked)) {
+            return;
+        }
+        try {
+            // Drain in batches while there is a backlog and the batches get through
+            while (relayBatch() == batchSize) {
+                stringRedisTemplate.expire(LOCK_KEY, Duration.ofSeconds(30));
+            }
+        } finally {
+            if (instanceId.equals(stringRedisTemplate.opsForValue().get(LOCK_KEY))) {
+                stringRedisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    // Returns how many rows were read, or 0 when none of them got through, so the caller knows whether to keep draining
+    int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.findDeliverable(Instant.now(), PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        // 1. In-process subscribers, in id order. A failure holds back later events of the same aggregate.
+        List<OutboxEvent> delivered = new ArrayList<>();
+        Set<String> blockedAggregates = new HashSet<>();
+        for (OutboxEvent event : batch) {
+            String aggregateKey = event.getAggregateType() + ":" + event.getAggregateId();
+            if (blockedAggregates.contains(aggregateKey)) {
+                continue;
+            }
+            try {
+                eventPublisher.publishEvent(toDomainEvent(event));
+                delivered.add(event);
+            } catch (Exception e) {
+                if (event.getAttempts() + 1 >= maxAttempts) {
+                    // Dead letter: not sent to the stream nor marked published, kept for replay
+                    log.error("Giving up on outbox event {} ({} {}) after {} attempts",
+                            event.getId(), aggregateKey, event.getEventType(), maxAttempts, e);
+                    outboxEventRepository.markDeadLetter(event.getId(), truncate(e.toString()), Instant.now());
+                } else {
+                    Instant nextAttemptAt = Instant.now().plusMillis(backoff(event.getAttempts()));
+                    log.warn("Outbox event {} failed, retrying at {}: {}", event.getId(), nextAttemptAt, e.getMessage());
+                    blockedAggregates.add(aggregateKey);
+                    outboxEventRepository.markFailed(event.getId(), truncate(e.toString()), nextAttemptAt);
+                }
+            }
+        }
+        if (delivered.isEmpty()) {
+            return 0;
+        }
+
+        // 2. Redis stream (read by DomainEventBroadcaster on every instance): one pipelined round trip.
+        // Only what was delivered goes out, so a retried row does not show up there once per attempt.
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+            XAddOptions options = XAddOptions.maxlen(streamMaxLen).approximateTrimming(true);
+            for (OutboxEvent event : delivered) {
+                Map<byte[], byte[]> fields = new LinkedHashMap<>();
+                fields.put(bytes("outboxId"), bytes(String.valueOf(event.getId())));
+                fields.put(bytes("aggregateType"), bytes(event.getAggregateType()));
+                fields.put(bytes("aggregateId"), bytes(String.valueOf(event.getAggregateId())));
+                fields.put(bytes("eventType"), bytes(event.getEventType()));
+                fields.put(bytes("payload"), bytes(event.getPayload()));
+                fields.put(bytes("occurredAt"), bytes(event.getCreatedAt().toString()));
+                MapRecord<byte[], byte[], byte[]> record = StreamRecords.newRecord().in(key).ofMap(fields);
+                connection.streamCommands().xAdd(record, options);
+            }
+            return null;
+        });
+
+        // 3. Mark the delivered rows in one statement
+        outboxEventRepository.markPublished(delivered.stream().map(OutboxEvent::getId).toList(), Instant.now());
+        return batch.size();
+    }
+
+    // Doubles per failed attempt: backoff-ms, 2x, 4x ... up to max-backoff-ms
+    private long backoff(int previousAttempts) {
+        return Math.min(maxBackoffMs, backoffMs << Math.min(previousAttempts, 20));
+    }
+
+    // Published rows are only kept for troubleshooting; subscriber dedupe markers go with them
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 0 * * * *}")
+    public void deletePublished() {
+        Instant cutoff = Instant.now().minus(Duration.ofHours(retentionHours));
+        int deleted = outboxEventRepository.deletePublishedBefore(cutoff);
+        if (deleted > 0) {
+            log.info("Deleted {} published outbox events", deleted);
+        }
+        processedOutboxEventRepository.deleteOrphanedBefore(cutoff);
+    }
+
+    private DomainEvent toDomainEvent(OutboxEvent event) throws Exception {
+        Map<String, Object> payload = objectMapper.readValue(event.getPayload(), PAYLOAD_TYPE);
+        return new DomainEvent(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getEventType(), payload, event.getCreatedAt());
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String truncate(String value) {
+        return value.length() > 500 ? value.substring(0, 500) : value;
+    }
+}
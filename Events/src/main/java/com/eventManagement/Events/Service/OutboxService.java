@@ -0,0 +1,61 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.OutboxEvent;
+import com.eventManagement.Events.Repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    // Must run inside the caller's transaction so the domain event commits (or rolls back) with the change
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Long aggregateId, String eventType, Map<String, Object> payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            outboxEventRepository.save(new OutboxEvent(aggregateType, aggregateId, eventType, json));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize domain event " + aggregateType + eventType, e);
+        }
+    }
+
+    // Rows still to deliver and dead letters waiting for a replay
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pending", outboxEventRepository.countByPublishedAtIsNullAndFailedAtIsNull());
+        stats.put("failed", outboxEventRepository.countByFailedAtIsNotNull());
+        return stats;
+    }
+
+    @Transactional(readOnly = true)
+    public List<OutboxEvent> getFailed(int limit) {
+        return outboxEventRepository.findByFailedAtIsNotNullOrderByIdAsc(PageRequest.of(0, Math.max(1, Math.min(limit, 500))));
+    }
+
+    // Hands dead letters back to OutboxRelay. Later events of the same aggregate may already have been
+    // delivered, so a replayed event arrives after them.
+    public int replayFailed(Long id) {
+        int requeued = id != null ? outboxEventRepository.requeueFailed(id) : outboxEventRepository.requeueFailed();
+        if (id != null && requeued == 0) {
+            throw new RuntimeException("No failed outbox event " + id);
+        }
+        return requeued;
+    }
+}
@@ -0,0 +1,227 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.TicketTier;
+import com.eventManagement.Events.Repository.TicketTierRepository;
+import com.eventManagement.Events.Utills.DemandCounter;
+import com.eventManagement.Events.Utills.DemandSignal;
+import com.eventManagement.Events.Utills.PriceQuoteCodec;
+import com.eventManagement.Events.Utills.PriceQuoteCodec.PriceQuote;
+import com.eventManagement.Events.Utills.PriceSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Demand-driven tier prices. Views, purchase attempts and purchases are counted per event in
+// lock-free decaying counters; every recompute-ms the multipliers are recalculated from demand and
+// sell-through and published as one immutable PriceSnapshot. Tier prices in the database stay the
+// list price. Snapshots are per instance, so buyers pay from a signed quote that any instance honours.
+@Service
+public class PricingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PricingService.class);
+
+    private final TicketTierRepository ticketTierRepository;
+    private final PriceQuoteCodec priceQuoteCodec;
+    private final Map<Long, DemandCounter> counters = new ConcurrentHashMap<>();
+    private final AtomicReference<PriceSnapshot> snapshot = new AtomicReference<>(PriceSnapshot.EMPTY);
+
+    @Value("${app.pricing.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.pricing.bucket-seconds:60}")
+    private long bucketSeconds;
+
+    @Value("${app.pricing.buckets:30}")
+    private int buckets;
+
+    @Value("${app.pricing.half-life-buckets:5}")
+    private double halfLifeBuckets;
+
+    // Demand = purchases + hold-weight * attempts + view-weight * views, per bucket
+    @Value("${app.pricing.hold-weight:0.5}")
+    private double holdWeight;
+
+    @Value("${app.pricing.view-weight:0.02}")
+    private double viewWeight;
+
+    // Demand per bucket that earns the full velocity-weight
+    @Value("${app.pricing.velocity-target:20}")
+    private double velocityTarget;
+
+    @Value("${app.pricing.velocity-weight:0.2}")
+    private double velocityWeight;
+
+    // Sell-through above the threshold raises the price linearly, up to sell-through-weight when sold out
+    @Value("${app.pricing.sell-through-threshold:0.5}")
+    private double sellThroughThreshold;
+
+    @Value("${app.pricing.sell-through-weight:0.3}")
+    private double sellThroughWeight;
+
+    @Value("${app.pricing.min-multiplier:1.0}")
+    private double minMultiplier;
+
+    @Value("${app.pricing.max-multiplier:1.5}")
+    private double maxMultiplier;
+
+    // Largest change of a multiplier per run, so prices move in steps rather than jumps
+    @Value("${app.pricing.max-step:0.1}")
+    private double maxStep;
+
+    // Prices are rounded to a multiple of this
+    @Value("${app.pricing.rounding:0.5}")
+    private double rounding;
+
+    // How long a quote from /prices can be paid with
+    @Value("${app.pricing.quote-ttl-ms:120000}")
+    private long quoteTtlMs;
+
+    public PricingService(TicketTierRepository ticketTierRepository, PriceQuoteCodec priceQuoteCodec) {
+        this.ticketTierRepository = ticketTierRepository;
+        this.priceQuoteCodec = priceQuoteCodec;
+    }
+
+    public void recordDemand(Long eventId, DemandSignal signal) {
+        if (!enabled) {
+            return;
+        }
+        counters.computeIfAbsent(eventId, id -> new DemandCounter(bucketSeconds * 1000, buckets))
+                .record(signal, System.currentTimeMillis());
+    }
+
+    // Hot path: one volatile read, no locks, no queries
+    public double currentPrice(Long eventId, String tierType, double listPrice) {
+        double multiplier = snapshot.get().multiplier(eventId, tierType);
+        return multiplier == 1.0 ? listPrice : round(listPrice, multiplier);
+    }
+
+    // Price charged for a sale: the one in the buyer's quote, whichever instance signed it, as long as it
+    // has not expired and still lies within [min-multiplier, max-multiplier] x the list price. Required
+    // while demand pricing is on; without it the list price is all there is.
+    public double priceForSale(Long eventId, String tierType, double listPrice, String quote) {
+        if (quote == null) {
+            if (enabled) {
+                throw new RuntimeException("Price quote is required");
+            }
+            return currentPrice(eventId, tierType, listPrice);
+        }
+        PriceQuote priced = priceQuoteCodec.decode(quote);
+        if (priced == null || priced.eventId() != eventId || !priced.tierType().equals(tierType)) {
+            throw new RuntimeException("Invalid price quote");
+        }
+        if (priced.expiresAt() < System.currentTimeMillis()) {
+            throw new RuntimeException("Price quote expired, please confirm the current price");
+        }
+        // The list price may have been edited since the quote
+        if (priced.price() < listPrice * minMultiplier - 0.005 || priced.price() > listPrice * maxMultiplier + 0.005) {
+            throw new RuntimeException("Price changed to " + currentPrice(eventId, tierType, listPrice)
+                    + ", please confirm the new price");
+        }
+        return priced.price();
+    }
+
+    // Current price of every tier of an event, cheapest list price first
+    @Transactional(readOnly = true)
+    public Map<String, Object> getPrices(Long eventId) {
+        PriceSnapshot current = snapshot.get();
+        long expiresAt = System.currentTimeMillis() + quoteTtlMs;
+        List<Map<String, Object>> tiers = new ArrayList<>();
+        for (TicketTier tier : ticketTierRepository.findByEvent_IdOrderByPriceAsc(eventId)) {
+            double multiplier = current.multiplier(eventId, tier.getType());
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("type", tier.getType());
+            row.put("listPrice", tier.getPrice());
+            double price = multiplier == 1.0 ? tier.getPrice() : round(tier.getPrice(), multiplier);
+            row.put("price", price);
+            row.put("multiplier", multiplier);
+            row.put("remaining", tier.getRemaining());
+            row.put("quote", priceQuoteCodec.encode(eventId, tier.getType(), price, expiresAt));
+            tiers.add(row);
+        }
+        Map<String, Object> prices = new LinkedHashMap<>();
+        prices.put("eventId", eventId);
+        prices.put("version", current.version());
+        prices.put("computedAt", current.computedAt());
+        prices.put("quoteExpiresAt", Instant.ofEpochMilli(expiresAt));
+        prices.put("tiers", tiers);
+        return prices;
+    }
+
+    @Scheduled(fixedDelayString = "${app.pricing.recompute-ms:30000}")
+    @Transactional(readOnly = true)
+    public void recompute() {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        counters.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+
+        PriceSnapshot previous = snapshot.get();
+        // Events with recent demand, plus those still priced above list so they can step back down
+        Set<Long> eventIds = new HashSet<>(counters.keySet());
+        eventIds.addAll(previous.multipliers().keySet());
+
+        Map<Long, Map<String, Double>> multipliers = new HashMap<>();
+        if (!eventIds.isEmpty()) {
+            for (TicketTier tier : ticketTierRepository.findByEventIds(eventIds)) {
+                Long eventId = tier.getEvent().getId();
+                double target = targetMultiplier(counters.get(eventId), tier, now);
+                double last = previous.multiplier(eventId, tier.getType());
+                double next = Math.max(last - maxStep, Math.min(last + maxStep, target));
+                next = Math.round(next * 1000) / 1000.0;
+                if (next != 1.0) {
+                    multipliers.computeIfAbsent(eventId, id -> new HashMap<>()).put(tier.getType(), next);
+                }
+            }
+        }
+
+        Map<Long, Map<String, Double>> published = new HashMap<>();
+        multipliers.forEach((eventId, tiers) -> published.put(eventId, Map.copyOf(tiers)));
+        snapshot.set(new PriceSnapshot(previous.version() + 1, Instant.ofEpochMilli(now), Map.copyOf(published)));
+        if (!published.isEmpty()) {
+            log.debug("Pricing run {}: {} events above list price", previous.version() + 1, published.size());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        PriceSnapshot current = snapshot.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("version", current.version());
+        stats.put("computedAt", current.computedAt());
+        stats.put("trackedEvents", counters.size());
+        stats.put("repricedEvents", current.multipliers().size());
+        return stats;
+    }
+
+    private double targetMultiplier(DemandCounter counter, TicketTier tier, long now) {
+        double multiplier = 1.0;
+        if (tier.getCapacity() > 0 && sellThroughThreshold < 1.0) {
+            double sellThrough = Math.min(1.0, (double) tier.getSold() / tier.getCapacity());
+            multiplier += sellThroughWeight * Math.max(0, (sellThrough - sellThroughThreshold) / (1 - sellThroughThreshold));
+        }
+        if (counter != null && velocityTarget > 0) {
+            double demand = counter.rate(DemandSignal.PURCHASE, now, halfLifeBuckets)
+                    + holdWeight * counter.rate(DemandSignal.HOLD, now, halfLifeBuckets)
+                    + viewWeight * counter.rate(DemandSignal.VIEW, now, halfLifeBuckets);
+            multiplier += velocityWeight * Math.min(1.0, demand / velocityTarget);
+        }
+        return Math.max(minMultiplier, Math.min(maxMultiplier, multiplier));
+    }
+
+    // Rounding may not take the price out of [min-multiplier, max-multiplier] x list price
+    private double round(double listPrice, double multiplier) {
+        double price = listPrice * multiplier;
+        double rounded = rounding > 0 ? Math.round(price / rounding) * rounding : price;
+        rounded = Math.max(listPrice * minMultiplier, Math.min(listPrice * maxMultiplier, rounded));
+        return Math.round(rounded * 100) / 100.0;
+    }
+}
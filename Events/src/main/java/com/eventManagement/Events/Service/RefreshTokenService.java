@@ -0,0 +1,185 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Utills.JwtUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Rotating refresh tokens. A token is "<familyId>.<secret>"; Redis keeps one hash per family
+// (auth:refresh:<familyId>) with the owner, the SHA-256 of the only token currently valid and
+// the SHA-256 of every token the family has rotated past (used:<hash>). Presenting one of those
+// means it was copied: the whole family is revoked, and so are its access tokens, through a small
+// in-memory denylist of family ids. Any other mismatch is just unknown and leaves the family alone,
+// since the family id alone (it is in the access token) must not be enough to end a session.
+@Service
+public class RefreshTokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+    private static final String FAMILY_PREFIX = "auth:refresh:";
+    private static final String REVOKED_KEY = "auth:revoked-families"; // zset: familyId -> revoked until (ms)
+
+    public record Session(String familyId, String email, String role, String refreshToken) {}
+
+    public enum RefreshOutcome { ROTATED, REUSED, UNKNOWN }
+
+    public record RefreshResult(RefreshOutcome outcome, Session session) {}
+
+    // KEYS[1] family; ARGV[1] presented hash, ARGV[2] next hash.
+    // Returns {status, email, role}: 1 rotated, -1 reuse of a used token (family deleted), 0 unknown/expired.
+    private static final DefaultRedisScript<List> ROTATE = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'current')
+            if not current then return {0, '', ''} end
+            if current ~= ARGV[1] then
+              if redis.call('HEXISTS', KEYS[1], 'used:' .. ARGV[1]) == 1 then
+                redis.call('DEL', KEYS[1])
+                return {-1, '', ''}
+              end
+              return {0, '', ''}
+            end
+            redis.call('HSET', KEYS[1], 'used:' .. ARGV[1], '1', 'current', ARGV[2])
+            return {1, redis.call('HGET', KEYS[1], 'email'), redis.call('HGET', KEYS[1], 'role')}
+            """, List.class);
+
+    // KEYS[1] family; ARGV[1] presented hash. Deletes the family only for its current token; 1 if deleted.
+    private static final DefaultRedisScript<Long> REVOKE = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'current') ~= ARGV[1] then return 0 end
+            redis.call('DEL', KEYS[1])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Duration refreshTtl;
+    private final long accessTtlMs;
+    private final SecureRandom random = new SecureRandom();
+
+    // familyId -> epoch ms after which its access tokens have expired anyway
+    private volatile Map<String, Long> revokedFamilies = new ConcurrentHashMap<>();
+
+    public RefreshTokenService(StringRedisTemplate stringRedisTemplate,
+                               JwtUtil jwtUtil,
+                               @Value("${app.auth.refresh-ttl-days:14}") long refreshTtlDays) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.refreshTtl = Duration.ofDays(refreshTtlDays);
+        this.accessTtlMs = jwtUtil.getExpirationMs();
+    }
+
+    // New family at login; it lives refresh-ttl-days from here however often it is rotated
+    public Session startSession(String email, String role) {
+        String familyId = randomToken(16);
+        String refreshToken = familyId + "." + randomToken(32);
+        String key = FAMILY_PREFIX + familyId;
+        stringRedisTemplate.opsForHash().putAll(key, Map.of(
+                "email", email,
+                "role", role,
+                "current", sha256(refreshToken)));
+        stringRedisTemplate.expire(key, refreshTtl);
+        return new Session(familyId, email, role, refreshToken);
+    }
+
+    public RefreshResult rotate(String refreshToken) {
+        String familyId = familyOf(refreshToken);
+        if (familyId == null) {
+            return new RefreshResult(RefreshOutcome.UNKNOWN, null);
+        }
+        String next = familyId + "." + randomToken(32);
+        List<?> result = stringRedisTemplate.execute(ROTATE, List.of(FAMILY_PREFIX + familyId),
+                sha256(refreshToken), sha256(next));
+        long status = result == null ? 0 : ((Number) result.get(0)).longValue();
+        if (status == 1) {
+            return new RefreshResult(RefreshOutcome.ROTATED,
+                    new Session(familyId, (String) result.get(1), (String) result.get(2), next));
+        }
+        if (status == -1) {
+            log.warn("Refresh token reuse detected, revoking family {}", familyId);
+            revokeFamily(familyId);
+            return new RefreshResult(RefreshOutcome.REUSED, null);
+        }
+        return new RefreshResult(RefreshOutcome.UNKNOWN, null);
+    }
+
+    // Logout: the family's refresh token stops working and its access tokens are denied.
+    // Only the current token of the family can do it; returns whether it did.
+    public boolean revoke(String refreshToken) {
+        String familyId = familyOf(refreshToken);
+        if (familyId == null) {
+            return false;
+        }
+        Long deleted = stringRedisTemplate.execute(REVOKE, List.of(FAMILY_PREFIX + familyId), sha256(refreshToken));
+        if (deleted == null || deleted != 1) {
+            return false;
+        }
+        revokeFamily(familyId);
+        return true;
+    }
+
+    // Checked by JwtAuthFilter on every request, so only a map lookup
+    public boolean isRevoked(String familyId) {
+        return familyId != null && revokedFamilies.containsKey(familyId);
+    }
+
+    // Pull revocations made by other instances; entries drop out once the access tokens have expired
+    @Scheduled(fixedDelayString = "${app.auth.denylist-sync-ms:2000}")
+    public void syncDenylist() {
+        long now = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, now);
+            Set<TypedTuple<String>> families = stringRedisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(REVOKED_KEY, now, Double.MAX_VALUE);
+            Map<String, Long> fresh = new ConcurrentHashMap<>();
+            if (families != null) {
+                families.forEach(f -> fresh.put(f.getValue(), f.getScore().longValue()));
+            }
+            // Keep local revocations Redis has not seen yet
+            revokedFamilies.forEach((f, until) -> {
+                if (until > now) {
+                    fresh.putIfAbsent(f, until);
+                }
+            });
+            revokedFamilies = fresh;
+        } catch (Exception e) {
+            log.debug("Denylist sync skipped, Redis unavailable: {}", e.getMessage());
+        }
+    }
+
+    private void revokeFamily(String familyId) {
+        long until = System.currentTimeMillis() + accessTtlMs;
+        revokedFamilies.put(familyId, until);
+        stringRedisTemplate.opsForZSet().add(REVOKED_KEY, familyId, until);
+    }
+
+    private static String familyOf(String refreshToken) {
+        if (refreshToken == null) {
+            return null;
+        }
+        int dot = refreshToken.indexOf('.');
+        return dot > 0 ? refreshToken.substring(0, dot) : null;
+    }
+
+    private String randomToken(int bytes) {
+        byte[] buffer = new byte[bytes];
+        random.nextBytes(buffer);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer);
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
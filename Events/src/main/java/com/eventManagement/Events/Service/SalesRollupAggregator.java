@@ -0,0 +1,60 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Service.AnalyticsService.RollupDelta;
+import com.eventManagement.Events.Service.AnalyticsService.RollupKey;
+import com.eventManagement.Events.Utills.DomainEvent;
+import com.eventManagement.Events.Utills.RollupGranularity;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.*;
+
+// Streams ticket purchases/cancellations (from the outbox) into sales_rollups: one row update per
+// MINUTE/HOUR/DAY/TOTAL bucket of the event and tier. The update commits before the outbox row is
+// marked published, so a crash or redeploy means redelivery, never a lost sale; a failure is retried
+// by the relay like any other subscriber. Redeliveries are recognised by the outbox id stored with the update.
+@Component
+public class SalesRollupAggregator {
+
+    private static final String CONSUMER = "sales-rollup";
+
+    private final AnalyticsService analyticsService;
+
+    public SalesRollupAggregator(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @EventListener(condition = "#event.aggregateType == 'Ticket'")
+    public synchronized void onTicketEvent(DomainEvent event) {
+        boolean purchased = DomainEvent.PURCHASED.equals(event.eventType());
+        if (!purchased && !DomainEvent.CANCELLED.equals(event.eventType())) {
+            return;
+        }
+        Map<String, Object> payload = event.payload();
+        Long eventId = ((Number) payload.get("eventId")).longValue();
+        String organizer = String.valueOf(payload.get("organizer"));
+        String tierType = String.valueOf(payload.get("tierType"));
+        double price = ((Number) payload.get("price")).doubleValue();
+        // Cancellations are bucketed by when they happened, purchases by purchase time
+        Instant at = purchased
+                ? Instant.ofEpochMilli(((Number) payload.get("purchasedAt")).longValue())
+                : event.occurredAt();
+
+        Map<RollupKey, RollupDelta> deltas = new HashMap<>();
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            RollupKey key = new RollupKey(eventId, organizer, tierType, granularity, granularity.bucketOf(at));
+            RollupDelta delta = new RollupDelta();
+            if (purchased) {
+                delta.sold++;
+                delta.revenue += price;
+            } else {
+                delta.cancelled++;
+                delta.revenue -= price;
+            }
+            deltas.put(key, delta);
+        }
+        // Throws on failure, the relay then retries this event
+        analyticsService.applyDeltas(CONSUMER, event.outboxId(), deltas);
+    }
+}
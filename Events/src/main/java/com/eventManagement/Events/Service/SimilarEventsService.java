@@ -0,0 +1,209 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.EventCards;
+import com.eventManagement.Events.Repository.EventCardsRepository;
+import com.eventManagement.Events.Utills.BroadcastEvent;
+import com.eventManagement.Events.Utills.DomainEvent;
+import com.eventManagement.Events.Utills.MinHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// "You may also like" for event cards. Each card becomes a feature set (tags, category, organizer,
+// 3-word description shingles) with a MinHash signature; LSH buckets give the candidates, which are
+// ranked by exact Jaccard. Top-k lists are kept in memory and patched when a card changes.
+// Cards without any feature are not bucketed: their signatures would all be equal and land in every
+// one of each other's buckets.
+@Service
+public class SimilarEventsService {
+
+    private static final Logger log = LoggerFactory.getLogger(SimilarEventsService.class);
+    private static final int SHINGLE_WORDS = 3;
+
+    public record SimilarEvent(Long id, String name, String category, LocalDate date, String image, double similarity) {}
+
+    private record Card(long[] features, long[] bandKeys, SimilarEvent summary) {}
+
+    private final EventCardsRepository eventCardsRepository;
+    private final MinHasher minHasher;
+    private final int topK;
+    private final double minSimilarity;
+
+    private final Map<Long, Card> cards = new ConcurrentHashMap<>();
+    private final List<Map<Long, Set<Long>>> buckets = new ArrayList<>(); // per band: key -> card ids
+    private final Map<Long, List<SimilarEvent>> neighbours = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> listedBy = new HashMap<>(); // card id -> cards whose top-k has it
+
+    public SimilarEventsService(EventCardsRepository eventCardsRepository,
+                                @Value("${app.similar.bands:32}") int bands,
+                                @Value("${app.similar.rows:2}") int rows,
+                                @Value("${app.similar.top-k:10}") int topK,
+                                @Value("${app.similar.min-similarity:0.1}") double minSimilarity) {
+        this.eventCardsRepository = eventCardsRepository;
+        this.minHasher = new MinHasher(bands, rows, 42L);
+        this.topK = topK;
+        this.minSimilarity = minSimilarity;
+        for (int band = 0; band < bands; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    public List<SimilarEvent> getSimilar(Long cardId, int limit) {
+        List<SimilarEvent> similar = neighbours.getOrDefault(cardId, List.of());
+        return similar.size() <= limit ? similar : similar.subList(0, limit);
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        cards.clear();
+        buckets.forEach(Map::clear);
+        neighbours.clear();
+        listedBy.clear();
+        for (EventCards card : eventCardsRepository.findAll()) {
+            index(card);
+        }
+        cards.keySet().forEach(this::recompute);
+        log.info("Similar events index built for {} cards", cards.size());
+    }
+
+    // Only the changed card and the cards that shared a bucket with it (before or after) are recomputed
+    @Transactional(readOnly = true)
+    @EventListener(condition = "#broadcast.event.aggregateType == 'EventCards'")
+    public synchronized void onCardChange(BroadcastEvent broadcast) {
+        DomainEvent event = broadcast.event();
+        Long id = event.aggregateId();
+        Set<Long> affected = new HashSet<>(candidates(id));
+        // Cards that listed this one, including those that will no longer share a bucket with it
+        affected.addAll(listedBy.getOrDefault(id, Set.of()));
+        unindex(id);
+
+        Optional<EventCards> card = DomainEvent.DELETED.equals(event.eventType())
+                ? Optional.empty()
+                : eventCardsRepository.findById(id);
+        if (card.isPresent()) {
+            index(card.get());
+            affected.addAll(candidates(id));
+            recompute(id);
+        } else {
+            setNeighbours(id, null);
+        }
+        affected.remove(id);
+        affected.forEach(this::recompute);
+    }
+
+    private void index(EventCards eventCard) {
+        long[] features = MinHasher.featureHashes(features(eventCard));
+        long[] bandKeys = features.length == 0 ? new long[0] : minHasher.bandKeys(minHasher.signature(features));
+        SimilarEvent summary = new SimilarEvent(eventCard.getId(), eventCard.getName(), eventCard.getCategory(),
+                eventCard.getDate(), eventCard.getImage(), 1.0);
+        cards.put(eventCard.getId(), new Card(features, bandKeys, summary));
+        for (int band = 0; band < bandKeys.length; band++) {
+            buckets.get(band).computeIfAbsent(bandKeys[band], k -> new HashSet<>()).add(eventCard.getId());
+        }
+    }
+
+    private void unindex(Long id) {
+        Card card = cards.remove(id);
+        if (card == null) {
+            return;
+        }
+        for (int band = 0; band < card.bandKeys().length; band++) {
+            Map<Long, Set<Long>> bandBuckets = buckets.get(band);
+            Set<Long> bucket = bandBuckets.get(card.bandKeys()[band]);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    bandBuckets.remove(card.bandKeys()[band]);
+                }
+            }
+        }
+    }
+
+    private Set<Long> candidates(Long id) {
+        Card card = cards.get(id);
+        if (card == null) {
+            return Set.of();
+        }
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < card.bandKeys().length; band++) {
+            candidates.addAll(buckets.get(band).getOrDefault(card.bandKeys()[band], Set.of()));
+        }
+        candidates.remove(id);
+        return candidates;
+    }
+
+    private void recompute(Long id) {
+        Card card = cards.get(id);
+        if (card == null) {
+            setNeighbours(id, null);
+            return;
+        }
+        List<SimilarEvent> ranked = new ArrayList<>();
+        for (Long candidateId : candidates(id)) {
+            Card candidate = cards.get(candidateId);
+            double similarity = MinHasher.jaccard(card.features(), candidate.features());
+            if (similarity >= minSimilarity) {
+                SimilarEvent s = candidate.summary();
+                ranked.add(new SimilarEvent(s.id(), s.name(), s.category(), s.date(), s.image(), similarity));
+            }
+        }
+        ranked.sort(Comparator.comparingDouble(SimilarEvent::similarity).reversed()
+                .thenComparing(SimilarEvent::id));
+        setNeighbours(id, List.copyOf(ranked.subList(0, Math.min(topK, ranked.size()))));
+    }
+
+    // Replaces (or with null removes) a top-k list and keeps listedBy in step with it
+    private void setNeighbours(Long id, List<SimilarEvent> similar) {
+        List<SimilarEvent> previous = similar == null ? neighbours.remove(id) : neighbours.put(id, similar);
+        if (previous != null) {
+            for (SimilarEvent s : previous) {
+                Set<Long> listers = listedBy.get(s.id());
+                if (listers != null) {
+                    listers.remove(id);
+                    if (listers.isEmpty()) {
+                        listedBy.remove(s.id());
+                    }
+                }
+            }
+        }
+        if (similar != null) {
+            for (SimilarEvent s : similar) {
+                listedBy.computeIfAbsent(s.id(), k -> new HashSet<>()).add(id);
+            }
+        }
+    }
+
+    private static Set<String> features(EventCards card) {
+        Set<String> features = new HashSet<>();
+        if (card.getTags() != null) {
+            card.getTags().forEach(tag -> features.add("tag:" + normalize(tag)));
+        }
+        if (card.getCategory() != null) {
+            features.add("category:" + normalize(card.getCategory()));
+        }
+        if (card.getOrganizer() != null) {
+            features.add("organizer:" + normalize(card.getOrganizer()));
+        }
+        if (card.getDescription() != null) {
+            String[] words = normalize(card.getDescription()).split("[^\\p{L}\\p{N}]+");
+            List<String> tokens = Arrays.stream(words).filter(w -> !w.isEmpty()).toList();
+            for (int i = 0; i + SHINGLE_WORDS <= tokens.size(); i++) {
+                features.add("text:" + String.join(" ", tokens.subList(i, i + SHINGLE_WORDS)));
+            }
+        }
+        return features;
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
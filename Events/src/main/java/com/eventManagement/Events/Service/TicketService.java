@@ -0,0 +1,213 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.Event;
+import com.eventManagement.Events.Entity.Ticket;
+import com.eventManagement.Events.Entity.TicketTier;
+import com.eventManagement.Events.Repository.EventRepository;
+import com.eventManagement.Events.Repository.TicketRepository;
+import com.eventManagement.Events.Utills.DomainEvent;
+import com.eventManagement.Events.Utills.TicketStatus;
+import com.eventManagement.Events.Utills.TicketTokenCodec;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TicketService {
+
+    public record Cancellation(Ticket ticket, boolean changed) {}
+
+    public record InventorySnapshot(long remainingTotal, long lastSequence, Map<String, Long> remainingPerTier,
+                                    long capacity, Map<String, Long> capacityPerTier) {}
+
+    private final TicketRepository ticketRepository;
+    private final EventRepository eventRepository;
+    private final OutboxService outboxService;
+    private final TicketTokenCodec ticketTokenCodec;
+    private final PricingService pricingService;
+
+    public TicketService(TicketRepository ticketRepository,
+                         EventRepository eventRepository,
+                         OutboxService outboxService,
+                         TicketTokenCodec ticketTokenCodec,
+                         PricingService pricingService) {
+        this.ticketRepository = ticketRepository;
+        this.eventRepository = eventRepository;
+        this.outboxService = outboxService;
+        this.ticketTokenCodec = ticketTokenCodec;
+        this.pricingService = pricingService;
+    }
+
+    @Transactional
+    public Ticket purchase(Long eventId, String tierType, Long userId, String quote) {
+        Event event = eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        TicketTier tier = findTier(event, tierType);
+
+        int soldTotal = event.getTiers().stream().mapToInt(TicketTier::getSold).sum();
+        if (tier.isSoldOut() || soldTotal >= event.getCapacity()) {
+            throw new RuntimeException("Sold out");
+        }
+
+        double price = pricingService.priceForSale(eventId, tier.getType(), tier.getPrice(), quote);
+        tier.setSold(tier.getSold() + 1);
+        event.setTicketsIssued(event.getTicketsIssued() + 1);
+        Ticket ticket = ticketRepository.save(
+                new Ticket(eventId, userId, tier.getType(), price, event.getTicketsIssued()));
+
+        outboxService.record(DomainEvent.TICKET, ticket.getId(), DomainEvent.PURCHASED, snapshot(ticket, event));
+        return ticket;
+    }
+
+    @Transactional
+    public Ticket cancel(Long ticketId, Long userId) {
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new RuntimeException("Ticket not found"));
+        if (!ticket.getUserId().equals(userId)) {
+            throw new RuntimeException("Not your ticket");
+        }
+        if (ticket.getStatus() == TicketStatus.CANCELLED) {
+            return ticket;
+        }
+
+        Event event = eventRepository.findByIdForUpdate(ticket.getEventId())
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        event.getTiers().stream()
+                .filter(t -> t.getType().equals(ticket.getTierType()))
+                .findFirst()
+                .ifPresent(t -> t.setSold(Math.max(0, t.getSold() - 1)));
+        ticket.setStatus(TicketStatus.CANCELLED);
+
+        outboxService.record(DomainEvent.TICKET, ticket.getId(), DomainEvent.CANCELLED, snapshot(ticket, event));
+        return ticket;
+    }
+
+    // Redis inventory mode: the seat and sequence were already taken atomically in InventoryCounters,
+    // so this only writes the ticket and its outbox event, without locking the event row
+    @Transactional
+    public Ticket issueReserved(Long eventId, String tierType, Long userId, int sequence, String quote) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        TicketTier tier = findTier(event, tierType);
+        double price = pricingService.priceForSale(eventId, tier.getType(), tier.getPrice(), quote);
+        Ticket ticket = ticketRepository.save(new Ticket(eventId, userId, tier.getType(), price, sequence));
+
+        outboxService.record(DomainEvent.TICKET, ticket.getId(), DomainEvent.PURCHASED, snapshot(ticket, event));
+        return ticket;
+    }
+
+    // Redis inventory mode counterpart of cancel(); the caller gives the seat back in Redis when changed
+    @Transactional
+    public Cancellation cancelReserved(Long ticketId, Long userId) {
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new RuntimeException("Ticket not found"));
+        if (!ticket.getUserId().equals(userId)) {
+            throw new RuntimeException("Not your ticket");
+        }
+        if (ticketRepository.cancelIfActive(ticketId) == 0) {
+            return new Cancellation(ticket, false);
+        }
+        ticket.setStatus(TicketStatus.CANCELLED);
+
+        Event event = eventRepository.findById(ticket.getEventId())
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        outboxService.record(DomainEvent.TICKET, ticket.getId(), DomainEvent.CANCELLED, snapshot(ticket, event));
+        return new Cancellation(ticket, true);
+    }
+
+    // Remaining capacity counted from the tickets table, the source of truth after losing Redis
+    @Transactional(readOnly = true)
+    public InventorySnapshot countInventory(Long eventId) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new RuntimeException("Event not found"));
+        Map<String, Long> sold = countActiveByTier(eventId);
+        Map<String, Long> remaining = new LinkedHashMap<>();
+        Map<String, Long> capacities = new LinkedHashMap<>();
+        for (TicketTier tier : event.getTiers()) {
+            // Not clamped at 0, so a later capacity change can be applied as a plain difference
+            remaining.put(tier.getType(), tier.getCapacity() - sold.getOrDefault(tier.getType(), 0L));
+            capacities.put(tier.getType(), (long) tier.getCapacity());
+        }
+        long soldTotal = sold.values().stream().mapToLong(Long::longValue).sum();
+        long lastSequence = Math.max(ticketRepository.findMaxSequence(eventId), event.getTicketsIssued());
+        return new InventorySnapshot(event.getCapacity() - soldTotal, lastSequence, remaining,
+                event.getCapacity(), capacities);
+    }
+
+    // Write-behind of Redis sales: tier sold counts and the issued total are recomputed from the
+    // tickets, so running it twice or out of order gives the same result
+    @Transactional
+    public void reconcileSold(Long eventId) {
+        Event event = eventRepository.findByIdForUpdate(eventId).orElse(null);
+        if (event == null) {
+            return;
+        }
+        Map<String, Long> sold = countActiveByTier(eventId);
+        for (TicketTier tier : event.getTiers()) {
+            tier.setSold(sold.getOrDefault(tier.getType(), 0L).intValue());
+        }
+        event.setTicketsIssued(Math.max(event.getTicketsIssued(), ticketRepository.findMaxSequence(eventId)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Ticket> getTicketsOfUser(Long userId) {
+        return ticketRepository.findByUserIdOrderByPurchasedAtDesc(userId);
+    }
+
+    // Signed token for the ticket's QR code, verifiable at the door without a lookup
+    @Transactional(readOnly = true)
+    public String getToken(Long ticketId, Long userId) {
+        Ticket ticket = ticketRepository.findById(ticketId)
+                .orElseThrow(() -> new RuntimeException("Ticket not found"));
+        if (!ticket.getUserId().equals(userId)) {
+            throw new RuntimeException("Not your ticket");
+        }
+        if (ticket.getStatus() == TicketStatus.CANCELLED) {
+            throw new RuntimeException("Ticket is cancelled");
+        }
+        return ticketTokenCodec.encode(ticket.getEventId(), ticket.getSequence(), ticket.getId());
+    }
+
+    // Sync-back of door scans; the first scan wins if a ticket is reported twice
+    @Transactional
+    public void markCheckedIn(Map<Long, Instant> checkIns) {
+        for (Ticket ticket : ticketRepository.findAllById(checkIns.keySet())) {
+            if (ticket.getCheckedInAt() == null) {
+                ticket.setCheckedInAt(checkIns.get(ticket.getId()));
+            }
+        }
+    }
+
+    private Map<String, Long> countActiveByTier(Long eventId) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : ticketRepository.countActiveByTier(eventId)) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    private TicketTier findTier(Event event, String tierType) {
+        return event.getTiers().stream()
+                .filter(t -> t.getType().equals(tierType))
+                .findFirst()
+                .orElseThrow(() -> new RuntimeException("Unknown ticket tier: " + tierType));
+    }
+
+    // Everything the analytics rollups need, so they never read ticket rows
+    private Map<String, Object> snapshot(Ticket ticket, Event event) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("ticketId", ticket.getId());
+        snapshot.put("eventId", ticket.getEventId());
+        snapshot.put("organizer", event.getOrganizer());
+        snapshot.put("userId", ticket.getUserId());
+        snapshot.put("tierType", ticket.getTierType());
+        snapshot.put("price", ticket.getPricePaid());
+        snapshot.put("sequence", ticket.getSequence());
+        snapshot.put("purchasedAt", ticket.getPurchasedAt().toEpochMilli());
+        return snapshot;
+    }
+}
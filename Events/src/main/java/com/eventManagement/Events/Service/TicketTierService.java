@@ -0,0 +1,91 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Entity.Event;
+import com.eventManagement.Events.Entity.TicketTier;
+import com.eventManagement.Events.Repository.EventRepository;
+import com.eventManagement.Events.Repository.TicketTierRepository;
+import com.eventManagement.Events.Utills.TicketTierParser;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+
+@Service
+public class TicketTierService {
+
+    private final TicketTierRepository ticketTierRepository;
+    private final EventRepository eventRepository;
+    private final TicketTierParser ticketTierParser;
+
+    public TicketTierService(TicketTierRepository ticketTierRepository,
+                             EventRepository eventRepository,
+                             TicketTierParser ticketTierParser) {
+        this.ticketTierRepository = ticketTierRepository;
+        this.eventRepository = eventRepository;
+        this.ticketTierParser = ticketTierParser;
+    }
+
+    // Parse the raw ticketTiers JSON (or tiers sent as objects) into TicketTier rows on the event.
+    // Sold counts of tiers that keep the same type survive an update.
+    public void applyTiers(Event event, String ticketTiersJson, List<TicketTier> requestedTiers) {
+        List<TicketTier> incoming = ticketTiersJson != null && !ticketTiersJson.isBlank()
+                ? ticketTierParser.parse(ticketTiersJson)
+                : (requestedTiers != null ? requestedTiers : List.of());
+
+        Map<String, TicketTier> existingByType = new HashMap<>();
+        for (TicketTier tier : event.getTiers()) {
+            existingByType.put(tier.getType(), tier);
+        }
+
+        List<TicketTier> merged = new ArrayList<>();
+        for (TicketTier tier : incoming) {
+            if (tier.getType() == null || tier.getType().isBlank()) {
+                throw new RuntimeException("Ticket tier type is required");
+            }
+            if (tier.getPrice() < 0) {
+                throw new RuntimeException("Ticket tier price cannot be negative");
+            }
+            TicketTier target = existingByType.remove(tier.getType());
+            if (target == null) {
+                target = new TicketTier();
+                target.setType(tier.getType());
+                target.setEvent(event);
+            }
+            target.setPrice(tier.getPrice());
+            // Tiers without their own capacity share the event capacity
+            target.setCapacity(tier.getCapacity() > 0 ? tier.getCapacity() : event.getCapacity());
+            merged.add(target);
+        }
+
+        // Keep the same collection instance so orphanRemoval can track deleted tiers
+        event.getTiers().clear();
+        event.getTiers().addAll(merged);
+
+        OptionalDouble min = merged.stream().mapToDouble(TicketTier::getPrice).min();
+        event.setMinPrice(min.isPresent() ? min.getAsDouble() : null);
+        if (min.isPresent() && event.getPrice() <= 0) {
+            event.setPrice(min.getAsDouble());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<TicketTier> getTiers(Long eventId) {
+        return ticketTierRepository.findByEvent_IdOrderByPriceAsc(eventId);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<TicketTier> getCheapestAvailable(Long eventId) {
+        return ticketTierRepository.findAvailableByEventId(eventId, PageRequest.of(0, 1))
+                .stream()
+                .findFirst();
+    }
+
+    @Transactional(readOnly = true)
+    public List<Event> getEventsInPriceRange(double min, double max) {
+        if (min > max) {
+            throw new RuntimeException("min price must not exceed max price");
+        }
+        return eventRepository.findByMinPriceBetweenOrderByMinPriceAsc(min, max);
+    }
+}
@@ -0,0 +1,25 @@
+package com.eventManagement.Events.Service;
+
+import com.eventManagement.Events.Utills.DomainEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// Drops cached users after user changes; runs on the outbox relay thread, not the request thread.
+// The cache is the shared Redis one, so once per cluster (DomainEvent, not BroadcastEvent) is enough.
+@Component
+public class UserCacheListener {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public UserCacheListener(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @EventListener(condition = "#event.aggregateType == 'User'")
+    public void onUserChanged(DomainEvent event) {
+        redisTemplate.delete(List.of("user:" + event.aggregateId(), "users:all"));
+    }
+}
@@ -2,10 +2,16 @@ package com.eventManagement.Events.Service;
 
 import com.eventManagement.Events.Entity.User;
 import com.eventManagement.Events.Repository.UserRepository;
+import com.eventManagement.Events.Utills.DomainEvent;
 import com.eventManagement.Events.Utills.Role;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -16,15 +22,21 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
 
     public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-                       RedisTemplate<String, Object> redisTemplate) {
+                       RedisTemplate<String, Object> redisTemplate, OutboxService outboxService,
+                       ObjectMapper objectMapper) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.redisTemplate = redisTemplate;
+        this.outboxService = outboxService;
+        this.objectMapper = objectMapper;
     }
 
     // Get all users with caching
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
         String key = "users:all";
         List<User> users = (List<User>) redisTemplate.opsForValue().get(key);
@@ -37,9 +49,10 @@ public class UserService {
     }
 
     // Get user by ID with caching
+    @Transactional(readOnly = true)
     public Optional<User> getUserById(Long id) {
         String key = "user:" + id;
-        User cachedUser = (User) redisTemplate.opsForValue().get(key);
+        User cachedUser = fromCache(redisTemplate.opsForValue().get(key));
         if (cachedUser != null) {
             return Optional.of(cachedUser);
         }
@@ -48,7 +61,53 @@ public class UserService {
         return user;
     }
 
+    // Several users in three round trips at most: one MGET, one query for the misses and one
+    // pipelined write that caches them. Unknown ids are left out; order follows the request.
+    @Transactional(readOnly = true)
+    public List<User> getUsersByIds(Collection<Long> ids) {
+        List<Long> uniqueIds = new ArrayList<>(new LinkedHashSet<>(ids));
+        List<Object> cached = redisTemplate.opsForValue().multiGet(uniqueIds.stream().map(id -> "user:" + id).toList());
+
+        Map<Long, User> found = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (int i = 0; i < uniqueIds.size(); i++) {
+            User user = cached != null ? fromCache(cached.get(i)) : null;
+            if (user != null) {
+                found.put(uniqueIds.get(i), user);
+            } else {
+                misses.add(uniqueIds.get(i));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<User> loaded = userRepository.findAllById(misses);
+            if (!loaded.isEmpty()) {
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public Object execute(RedisOperations operations) throws DataAccessException {
+                        for (User user : loaded) {
+                            operations.opsForValue().set("user:" + user.getId(), user, 10, TimeUnit.MINUTES);
+                        }
+                        return null;
+                    }
+                });
+            }
+            loaded.forEach(user -> found.put(user.getId(), user));
+        }
+
+        List<User> users = new ArrayList<>(found.size());
+        for (Long id : uniqueIds) {
+            User user = found.get(id);
+            if (user != null) {
+                users.add(user);
+            }
+        }
+        return users;
+    }
+
     // Create user
+    @Transactional
     public User createUser(User user) {
         if (userRepository.existsByEmail(user.getEmail())) {
             throw new RuntimeException("Email already exists");
@@ -69,14 +128,14 @@ public class UserService {
 
         User savedUser = userRepository.save(user);
 
-        // Invalidate caches
-        redisTemplate.delete("users:all");
-        redisTemplate.opsForValue().set("user:" + savedUser.getId(), savedUser, 10, TimeUnit.MINUTES);
+        // Cache invalidation happens in UserCacheListener once the outbox event is relayed
+        outboxService.record(DomainEvent.USER, savedUser.getId(), DomainEvent.CREATED, snapshot(savedUser));
 
         return savedUser;
     }
 
     // Update user
+    @Transactional
     public User updateUser(Long id, User updatedUser) {
         User savedUser = userRepository.findById(id)
                 .map(existing -> {
@@ -88,6 +147,7 @@ public class UserService {
                             updatedUser.getRoles().contains(Role.ORGANIZER) ? updatedUser.getOrganization() : null
                     );
                     existing.setProfilePic(updatedUser.getProfilePic());
+                    existing.setLocale(updatedUser.getLocale());
                     existing.setRoles(updatedUser.getRoles() != null && !updatedUser.getRoles().isEmpty()
                             ? updatedUser.getRoles()
                             : Set.of(Role.ATTENDEE));
@@ -95,22 +155,34 @@ public class UserService {
                 })
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
-        // Update caches
-        redisTemplate.opsForValue().set("user:" + savedUser.getId(), savedUser, 10, TimeUnit.MINUTES);
-        redisTemplate.delete("users:all");
+        outboxService.record(DomainEvent.USER, savedUser.getId(), DomainEvent.UPDATED, snapshot(savedUser));
 
         return savedUser;
     }
 
     // Delete user
+    @Transactional
     public void deleteUser(Long id) {
         if (!userRepository.existsById(id)) {
             throw new RuntimeException("User not found");
         }
         userRepository.deleteById(id);
 
-        // Clear caches
-        redisTemplate.delete("user:" + id);
-        redisTemplate.delete("users:all");
+        outboxService.record(DomainEvent.USER, id, DomainEvent.DELETED, Map.of("id", id));
+    }
+
+    // The template's JSON serializer stores no type info, so cached users come back as maps
+    private User fromCache(Object cached) {
+        return cached == null || cached instanceof User ? (User) cached : objectMapper.convertValue(cached, User.class);
+    }
+
+    // Never put the password hash into the outbox
+    private Map<String, Object> snapshot(User user) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("id", user.getId());
+        snapshot.put("name", user.getName());
+        snapshot.put("email", user.getEmail());
+        snapshot.put("roles", user.getRoles());
+        return snapshot;
     }
 }
@@ -0,0 +1,44 @@
+package com.eventManagement.Events.Utills;
+
+import com.eventManagement.Events.Service.AuditLogService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import java.io.IOException;
+
+// One access record per request, after the JWT filter so the caller is known
+// and before authorization so 401/403 responses are logged too
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private final AuditLogService auditLogService;
+
+    public AccessLogFilter(AuditLogService auditLogService) {
+        this.auditLogService = auditLogService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain)
+            throws ServletException, IOException {
+
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            chain.doFilter(request, response);
+        } catch (Throwable e) {
+            failed = true;
+            throw e;
+        } finally {
+            // An exception escaping the chain is turned into a 500 later, on an error dispatch this filter
+            // does not see; the response still says 200 here
+            int status = failed && response.getStatus() < HttpServletResponse.SC_BAD_REQUEST
+                    ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR
+                    : response.getStatus();
+            auditLogService.access(request.getMethod(), AuditLogService.currentActor(), request.getRequestURI(), status,
+                    (System.nanoTime() - start) / 1000, request.getRemoteAddr());
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.eventManagement.Events.Utills;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// JSON + gzip for archived records. gzip rather than a custom format so the stored bytes can be
+// sent as-is to clients that accept Content-Encoding: gzip.
+@Component
+public class ArchiveCodec {
+
+    public record Encoded(int rawBytes, byte[] compressed) {}
+
+    private final ObjectMapper objectMapper;
+
+    public ArchiveCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Encoded encode(Object record) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(record);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 3 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(json);
+            }
+            return new Encoded(json.length, out.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public byte[] decompress(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.eventManagement.Events.Utills;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Listing row of the archive; the compressed record is only read for a single event
+public record ArchivedEventSummary(Long id, String name, String category, String organizer,
+                                   LocalDate startDate, LocalDate endDate, Instant archivedAt) {
+}
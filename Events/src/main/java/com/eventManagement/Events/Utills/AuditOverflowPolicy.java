@@ -0,0 +1,7 @@
+package com.eventManagement.Events.Utills;
+
+// What a request thread does when the audit ring is full
+public enum AuditOverflowPolicy {
+    DROP,  // count the record as dropped and carry on
+    BLOCK  // wait for the writer to free a slot
+}
@@ -0,0 +1,94 @@
+package com.eventManagement.Events.Utills;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bounded multi-producer / single-consumer ring of preallocated, reused slots.
+// Producers claim a slot with one CAS and fill it in place, so recording allocates nothing;
+// each slot's sequence tells the consumer when it is published and producers when it is free again.
+public class AuditRingBuffer {
+
+    public static final class Slot {
+        private volatile long sequence;
+
+        public long timestamp;       // epoch millis
+        public String kind;          // "audit" or "access"
+        public String action;        // e.g. "user.delete" or the HTTP method
+        public String actor;         // email of the authenticated user, if any
+        public String target;        // e.g. "user:5" or the request path
+        public String outcome;       // SUCCESS / FAILURE for audit records
+        public int status;           // HTTP status for access records
+        public long durationMicros;  // request duration for access records
+        public String remoteAddr;
+
+        private void clear() {
+            kind = action = actor = target = outcome = remoteAddr = null;
+            status = 0;
+            durationMicros = 0;
+        }
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head; // written by the consumer thread only
+
+    public AuditRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new Slot[capacity];
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            slots[i].sequence = i;
+        }
+    }
+
+    // Returns false instead of waiting when the ring is full
+    public boolean offer(long timestamp, String kind, String action, String actor, String target,
+                         String outcome, int status, long durationMicros, String remoteAddr) {
+        while (true) {
+            long position = tail.get();
+            Slot slot = slots[(int) (position & mask)];
+            long diff = slot.sequence - position;
+            if (diff == 0) {
+                if (!tail.compareAndSet(position, position + 1)) {
+                    continue;
+                }
+                slot.timestamp = timestamp;
+                slot.kind = kind;
+                slot.action = action;
+                slot.actor = actor;
+                slot.target = target;
+                slot.outcome = outcome;
+                slot.status = status;
+                slot.durationMicros = durationMicros;
+                slot.remoteAddr = remoteAddr;
+                slot.sequence = position + 1; // publish
+                return true;
+            }
+            if (diff < 0) {
+                return false; // consumer has not freed this slot yet
+            }
+            // another producer claimed this position, reload the tail
+        }
+    }
+
+    // Next published slot or null; the caller must release() it before polling again
+    public Slot poll() {
+        Slot slot = slots[(int) (head & mask)];
+        return slot.sequence == head + 1 ? slot : null;
+    }
+
+    public void release(Slot slot) {
+        slot.clear();
+        slot.sequence = head + slots.length;
+        head++;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public long size() {
+        return Math.max(0, tail.get() - head);
+    }
+}
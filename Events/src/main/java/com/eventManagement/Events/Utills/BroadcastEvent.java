@@ -0,0 +1,7 @@
+package com.eventManagement.Events.Utills;
+
+// A DomainEvent as seen by every instance, published by DomainEventBroadcaster from the Redis stream.
+// Subscribe to this (not DomainEvent) to keep in-memory state such as indexes and gates current.
+// Delivery is at-least-once and a little behind the relay, so listeners must be idempotent.
+public record BroadcastEvent(DomainEvent event) {
+}
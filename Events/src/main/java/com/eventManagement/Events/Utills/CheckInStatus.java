@@ -0,0 +1,9 @@
+package com.eventManagement.Events.Utills;
+
+public enum CheckInStatus {
+    ACCEPTED,
+    DUPLICATE,   // this ticket already entered
+    CANCELLED,
+    WRONG_EVENT, // valid ticket for another event
+    INVALID      // malformed or forged token
+}
@@ -0,0 +1,69 @@
+package com.eventManagement.Events.Utills;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Lock-free bit set for non-negative indexes that grows in 64K-bit chunks.
+// Growing copies only the chunk directory; chunks are shared, so no concurrent set is lost.
+public class ConcurrentBitSet {
+
+    private static final int CHUNK_SHIFT = 16;
+    private static final int CHUNK_BITS = 1 << CHUNK_SHIFT;
+    private static final int WORDS_PER_CHUNK = CHUNK_BITS / 64;
+
+    private volatile AtomicLongArray[] chunks;
+
+    public ConcurrentBitSet(int expectedBits) {
+        this.chunks = new AtomicLongArray[Math.max(1, (expectedBits + CHUNK_BITS - 1) / CHUNK_BITS)];
+    }
+
+    // Sets the bit and returns true only for the caller that flipped it from 0 to 1
+    public boolean setIfClear(int index) {
+        AtomicLongArray chunk = chunk(index, true);
+        int word = (index & (CHUNK_BITS - 1)) >>> 6;
+        long mask = 1L << index;
+        while (true) {
+            long current = chunk.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+            if (chunk.compareAndSet(word, current, current | mask)) {
+                return true;
+            }
+        }
+    }
+
+    public void set(int index) {
+        setIfClear(index);
+    }
+
+    public boolean get(int index) {
+        AtomicLongArray chunk = chunk(index, false);
+        return chunk != null && (chunk.get((index & (CHUNK_BITS - 1)) >>> 6) & (1L << index)) != 0;
+    }
+
+    private AtomicLongArray chunk(int index, boolean create) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        int chunkIndex = index >>> CHUNK_SHIFT;
+        AtomicLongArray[] current = chunks;
+        if (chunkIndex < current.length && current[chunkIndex] != null) {
+            return current[chunkIndex];
+        }
+        if (!create) {
+            return null;
+        }
+        synchronized (this) {
+            current = chunks;
+            if (chunkIndex >= current.length) {
+                current = Arrays.copyOf(current, Math.max(chunkIndex + 1, current.length * 2));
+            }
+            if (current[chunkIndex] == null) {
+                current[chunkIndex] = new AtomicLongArray(WORDS_PER_CHUNK);
+            }
+            chunks = current;
+            return current[chunkIndex];
+        }
+    }
+}
@@ -2,9 +2,10 @@ package com.eventManagement.Events.Utills;
 
 import com.eventManagement.Events.Entity.User;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.stream.Collectors;
 
 public class CustomUserDetails implements UserDetails {
 
@@ -12,7 +13,12 @@ public class CustomUserDetails implements UserDetails {
 
     public CustomUserDetails(User user){ this.user = user; }
 
-    @Override public Collection<? extends GrantedAuthority> getAuthorities() { return Collections.emptyList(); }
+    // ROLE_ prefix so hasRole(...) rules in SecurityConfig match
+    @Override public Collection<? extends GrantedAuthority> getAuthorities() {
+        return user.getRoles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                .collect(Collectors.toList());
+    }
     @Override public String getPassword() { return user.getPassword(); }
     @Override public String getUsername() { return user.getEmail(); }
     @Override public boolean isAccountNonExpired() { return true; }
@@ -22,4 +28,6 @@ public class CustomUserDetails implements UserDetails {
 
     public Long getId() { return user.getId(); }
     public String getName() { return user.getName(); }
+    public String getOrganization() { return user.getOrganization(); }
+    public boolean hasRole(Role role) { return user.getRoles().contains(role); }
 }
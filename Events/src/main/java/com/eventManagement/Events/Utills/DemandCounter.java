@@ -0,0 +1,75 @@
+package com.eventManagement.Events.Utills;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Lock-free sliding window of per-bucket counts for one event. Each cell packs the bucket number
+// (high 32 bits) with its count (low 32 bits), so starting a new bucket and counting into it is a
+// single CAS and no increment is lost to a reset. Readers weigh older buckets down exponentially.
+public class DemandCounter {
+
+    private static final int SIGNALS = DemandSignal.values().length;
+    private static final long COUNT_MASK = 0xFFFF_FFFFL;
+
+    private final long bucketMs;
+    private final int buckets;
+    private final AtomicLongArray cells; // slot * SIGNALS + signal
+
+    public DemandCounter(long bucketMs, int buckets) {
+        this.bucketMs = bucketMs;
+        this.buckets = buckets;
+        this.cells = new AtomicLongArray(buckets * SIGNALS);
+    }
+
+    public void record(DemandSignal signal, long nowMs) {
+        long bucket = nowMs / bucketMs;
+        int cell = (int) (bucket % buckets) * SIGNALS + signal.ordinal();
+        while (true) {
+            long current = cells.get(cell);
+            long currentBucket = current >>> 32;
+            long next;
+            if (currentBucket == bucket) {
+                next = current + 1;
+            } else if (currentBucket < bucket) {
+                next = (bucket << 32) | 1; // slot is reused for a new bucket
+            } else {
+                return; // a newer bucket already took the slot (caller's clock is behind)
+            }
+            if (cells.compareAndSet(cell, current, next)) {
+                return;
+            }
+        }
+    }
+
+    // Decayed average count per bucket over the window; a bucket halfLifeBuckets old counts half.
+    // The running bucket is weighted by how much of it has elapsed.
+    public double rate(DemandSignal signal, long nowMs, double halfLifeBuckets) {
+        long bucket = nowMs / bucketMs;
+        double elapsed = (double) (nowMs % bucketMs + 1) / bucketMs;
+        double weightedCount = 0;
+        double weights = 0;
+        for (int age = 0; age < buckets; age++) {
+            double weight = Math.pow(0.5, age / halfLifeBuckets);
+            weights += age == 0 ? weight * elapsed : weight;
+            long cellBucket = bucket - age;
+            if (cellBucket < 0) {
+                break;
+            }
+            long current = cells.get((int) (cellBucket % buckets) * SIGNALS + signal.ordinal());
+            if (current >>> 32 == cellBucket) {
+                weightedCount += weight * (current & COUNT_MASK);
+            }
+        }
+        return weights == 0 ? 0 : weightedCount / weights;
+    }
+
+    // Nothing recorded within the window
+    public boolean isIdle(long nowMs) {
+        long oldest = nowMs / bucketMs - buckets + 1;
+        for (int i = 0; i < cells.length(); i++) {
+            if (cells.get(i) >>> 32 >= oldest) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,8 @@
+package com.eventManagement.Events.Utills;
+
+// What a DemandCounter counts
+public enum DemandSignal {
+    VIEW,     // event page opened
+    HOLD,     // purchase attempt, successful or not
+    PURCHASE  // ticket issued
+}
@@ -0,0 +1,33 @@
+package com.eventManagement.Events.Utills;
+
+import java.time.Instant;
+import java.util.Map;
+
+// Published in-process by OutboxRelay on the one instance holding the relay lock, so once per cluster;
+// subscribe with @EventListener(DomainEvent.class). Per-instance state listens to BroadcastEvent instead.
+public record DomainEvent(
+        Long outboxId,
+        String aggregateType,
+        Long aggregateId,
+        String eventType,
+        Map<String, Object> payload,
+        Instant occurredAt
+) {
+    // Aggregate types
+    public static final String EVENT = "Event";
+    public static final String USER = "User";
+    public static final String EVENT_CARD = "EventCards";
+    public static final String TICKET = "Ticket";
+
+    // Event types
+    public static final String CREATED = "Created";
+    public static final String UPDATED = "Updated";
+    public static final String DELETED = "Deleted";
+    public static final String PURCHASED = "Purchased";
+    public static final String CANCELLED = "Cancelled";
+    public static final String ARCHIVED = "Archived"; // moved to archived_events; gone from the hot table
+
+    public boolean is(String aggregateType, String eventType) {
+        return this.aggregateType.equals(aggregateType) && this.eventType.equals(eventType);
+    }
+}
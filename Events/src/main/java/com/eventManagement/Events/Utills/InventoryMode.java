@@ -0,0 +1,7 @@
+package com.eventManagement.Events.Utills;
+
+// Where ticket sales check and count remaining capacity (app.inventory.mode)
+public enum InventoryMode {
+    DATABASE, // lock the event row per sale; fine for a single instance
+    REDIS     // atomic Redis counters shared by all instances, written back to Postgres in batches
+}
@@ -1,6 +1,7 @@
 package com.eventManagement.Events.Utills;
 
 import com.eventManagement.Events.Service.CustomUserDetailsService;
+import com.eventManagement.Events.Service.RefreshTokenService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,10 +17,13 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
 
-    public JwtAuthFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService) {
+    public JwtAuthFilter(JwtUtil jwtUtil, CustomUserDetailsService userDetailsService,
+                         RefreshTokenService refreshTokenService) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
+        this.refreshTokenService = refreshTokenService;
     }
 
     @Override
@@ -43,7 +47,10 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             token = authHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(token);
+                // Access tokens of a revoked session (logout, refresh token reuse) are refused
+                if (!refreshTokenService.isRevoked(jwtUtil.extractFamilyId(token))) {
+                    username = jwtUtil.extractUsername(token);
+                }
             } catch (Exception ignored) {}
         }
 
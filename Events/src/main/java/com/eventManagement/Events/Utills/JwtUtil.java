@@ -4,6 +4,10 @@ import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.Key;
 import java.util.Date;
 import java.util.Map;
@@ -32,6 +36,24 @@ public class JwtUtil {
                 .compact();
     }
 
+    // Access token of a refresh-token family ("fid"), so the family can be revoked as a whole
+    public String generateToken(String username, String role, String familyId) {
+        Date now = new Date();
+        Date exp = new Date(now.getTime() + jwtExpirationMs);
+
+        return Jwts.builder()
+                .setSubject(username)
+                .addClaims(Map.of("role", role, "fid", familyId))
+                .setIssuedAt(now)
+                .setExpiration(exp)
+                .signWith(key, SignatureAlgorithm.HS512)
+                .compact();
+    }
+
+    public long getExpirationMs() {
+        return jwtExpirationMs;
+    }
+
     public boolean validateToken(String token, String username) {
         try {
             final String sub = extractUsername(token);
@@ -50,6 +72,10 @@ public class JwtUtil {
         return extractAllClaims(token).get("role", String.class);
     }
 
+    public String extractFamilyId(String token) {
+        return extractAllClaims(token).get("fid", String.class);
+    }
+
     public Date extractExpiration(String token) {
         return extractClaim(token, Claims::getExpiration);
     }
@@ -67,6 +93,18 @@ public class JwtUtil {
                 .getBody();
     }
 
+    // Purpose-bound key derived from the signing key (HMAC-SHA256(key, purpose)), so other
+    // signatures, e.g. offline ticket checks, never expose the JWT key itself
+    public byte[] deriveKey(String purpose) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(key.getEncoded(), "HmacSHA256"));
+            return mac.doFinal(purpose.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
     private boolean isTokenExpired(String token) {
         return extractExpiration(token).before(new Date());
     }
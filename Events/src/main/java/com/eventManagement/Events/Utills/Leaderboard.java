@@ -0,0 +1,75 @@
+package com.eventManagement.Events.Utills;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Ids ranked by score, highest first: a skip list ordered by (score, tie-break, id) plus an index by id,
+// so changing a score is one O(log n) removal and one insertion, and reading the top n walks n nodes.
+// Writers are serialized; readers never lock and at worst miss an entry that is being moved.
+public class Leaderboard<T> {
+
+    public record Ranked<T>(T item, double score) {}
+
+    private record Entry<T>(long id, double score, double tieBreak, T item) {}
+
+    private static final Comparator<Entry<?>> ORDER = Comparator
+            .comparingDouble((Entry<?> e) -> e.score()).reversed()
+            .thenComparing(Comparator.comparingDouble((Entry<?> e) -> e.tieBreak()).reversed())
+            .thenComparingLong(Entry::id);
+
+    private volatile ConcurrentSkipListSet<Entry<T>> ranking = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry<T>> byId = new ConcurrentHashMap<>();
+
+    public synchronized void put(long id, double score, double tieBreak, T item) {
+        Entry<T> previous = byId.get(id);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+        Entry<T> entry = new Entry<>(id, score, tieBreak, item);
+        ranking.add(entry);
+        byId.put(id, entry);
+    }
+
+    public synchronized void remove(long id) {
+        Entry<T> previous = byId.remove(id);
+        if (previous != null) {
+            ranking.remove(previous);
+        }
+    }
+
+    // Multiplies every score. The order does not change; the rescaled list is swapped in whole so
+    // readers never see it half done.
+    public synchronized void rescale(double factor) {
+        ConcurrentSkipListSet<Entry<T>> rescaled = new ConcurrentSkipListSet<>(ORDER);
+        for (Entry<T> entry : ranking) {
+            Entry<T> scaled = new Entry<>(entry.id(), entry.score() * factor, entry.tieBreak(), entry.item());
+            rescaled.add(scaled);
+            byId.put(entry.id(), scaled);
+        }
+        ranking = rescaled;
+    }
+
+    public Double score(long id) {
+        Entry<T> entry = byId.get(id);
+        return entry == null ? null : entry.score();
+    }
+
+    public List<Ranked<T>> top(int limit) {
+        List<Ranked<T>> top = new ArrayList<>(Math.min(limit, byId.size()));
+        for (Entry<T> entry : ranking) {
+            if (top.size() >= limit) {
+                break;
+            }
+            top.add(new Ranked<>(entry.item(), entry.score()));
+        }
+        return top;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+}
@@ -0,0 +1,8 @@
+package com.eventManagement.Events.Utills;
+
+// Rankings kept by LeaderboardService, selected with ?by= on /api/eventcards/top
+public enum LeaderboardType {
+    RATING,     // highest rating, ties by attendees
+    ATTENDEES,  // most attended
+    TRENDING    // growth of the reported attendee count, decayed by age
+}
@@ -0,0 +1,125 @@
+package com.eventManagement.Events.Utills;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.SplittableRandom;
+
+// MinHash signatures over string feature sets plus LSH band keys.
+// Two sets land in the same bucket of at least one band with probability 1 - (1 - J^rows)^bands,
+// where J is their Jaccard similarity.
+public class MinHasher {
+
+    private static final long PRIME = (1L << 61) - 1; // Mersenne prime, so "mod" is a shift and an add
+
+    private final int bands;
+    private final int rows;
+    private final long[] a;
+    private final long[] b;
+
+    public MinHasher(int bands, int rows, long seed) {
+        this.bands = bands;
+        this.rows = rows;
+        int hashes = bands * rows;
+        this.a = new long[hashes];
+        this.b = new long[hashes];
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < hashes; i++) {
+            a[i] = 1 + random.nextLong(PRIME - 1);
+            b[i] = random.nextLong(PRIME);
+        }
+    }
+
+    // Sorted, de-duplicated 64-bit hashes of the features; also used for exact Jaccard
+    public static long[] featureHashes(Collection<String> features) {
+        long[] hashes = new long[features.size()];
+        int i = 0;
+        for (String feature : features) {
+            hashes[i++] = hash64(feature);
+        }
+        Arrays.sort(hashes);
+        int unique = 0;
+        for (int j = 0; j < hashes.length; j++) {
+            if (j == 0 || hashes[j] != hashes[j - 1]) {
+                hashes[unique++] = hashes[j];
+            }
+        }
+        return Arrays.copyOf(hashes, unique);
+    }
+
+    public long[] signature(long[] featureHashes) {
+        long[] signature = new long[a.length];
+        Arrays.fill(signature, Long.MAX_VALUE);
+        for (long feature : featureHashes) {
+            long x = (feature & Long.MAX_VALUE) % PRIME;
+            for (int i = 0; i < a.length; i++) {
+                long h = mod(multiplyMod(a[i], x) + b[i]);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // One key per band; the band index is mixed in so equal rows in different bands don't collide
+    public long[] bandKeys(long[] signature) {
+        long[] keys = new long[bands];
+        for (int band = 0; band < bands; band++) {
+            long h = band * 0x9E3779B97F4A7C15L;
+            for (int row = 0; row < rows; row++) {
+                h = mix(h ^ signature[band * rows + row]);
+            }
+            keys[band] = h;
+        }
+        return keys;
+    }
+
+    // Exact Jaccard similarity of two sorted hash sets
+    public static double jaccard(long[] x, long[] y) {
+        if (x.length == 0 && y.length == 0) {
+            return 0.0;
+        }
+        int i = 0, j = 0, common = 0;
+        while (i < x.length && j < y.length) {
+            if (x[i] == y[j]) {
+                common++;
+                i++;
+                j++;
+            } else if (x[i] < y[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return (double) common / (x.length + y.length - common);
+    }
+
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L; // FNV-1a, then a final mix
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    // (x * y) mod 2^61-1 without overflow, using the 128-bit product
+    private static long multiplyMod(long x, long y) {
+        long high = Math.multiplyHigh(x, y);
+        long low = x * y;
+        // product = high * 2^64 + low = (high << 3 | low >>> 61) * 2^61 + (low & PRIME)
+        long upper = (high << 3) | (low >>> 61);
+        return mod(upper + (low & PRIME));
+    }
+
+    private static long mod(long x) {
+        long r = (x & PRIME) + (x >>> 61);
+        return r >= PRIME ? r - PRIME : r;
+    }
+}
@@ -0,0 +1,5 @@
+package com.eventManagement.Events.Utills;
+
+// One row of a recipient page; userId is the keyset cursor
+public record NotificationRecipient(Long userId, String email, String locale) {
+}
@@ -0,0 +1,83 @@
+package com.eventManagement.Events.Utills;
+
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+
+// Signed price quote: base64url(version | eventId | expiresAt | price in cents | tierType | mac).
+// Every instance derives the same key from the JWT key, so a quote handed out by one instance is
+// honoured by any other until it expires, whatever their own price snapshots say.
+@Component
+public class PriceQuoteCodec {
+
+    public record PriceQuote(long eventId, String tierType, double price, long expiresAt) {}
+
+    private static final byte VERSION = 1;
+    private static final int HEADER_BYTES = 1 + 8 + 8 + 8;
+    private static final int MAC_BYTES = 16;
+
+    private final byte[] key;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance("HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    });
+
+    public PriceQuoteCodec(JwtUtil jwtUtil) {
+        this.key = jwtUtil.deriveKey("price-quote");
+    }
+
+    public String encode(long eventId, String tierType, double price, long expiresAt) {
+        byte[] tier = tierType.getBytes(StandardCharsets.UTF_8);
+        int payloadBytes = HEADER_BYTES + tier.length;
+        ByteBuffer buffer = ByteBuffer.allocate(payloadBytes + MAC_BYTES);
+        buffer.put(VERSION).putLong(eventId).putLong(expiresAt).putLong(Math.round(price * 100)).put(tier);
+        buffer.put(mac(buffer.array(), payloadBytes));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    // Null when the quote is malformed or the signature does not match; expiry is left to the caller
+    public PriceQuote decode(String quote) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(quote);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (bytes.length <= HEADER_BYTES + MAC_BYTES || bytes[0] != VERSION) {
+            return null;
+        }
+        int payloadBytes = bytes.length - MAC_BYTES;
+        byte[] expected = mac(bytes, payloadBytes);
+        byte[] actual = Arrays.copyOfRange(bytes, payloadBytes, bytes.length);
+        if (!MessageDigest.isEqual(expected, actual)) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, HEADER_BYTES - 1);
+        long eventId = buffer.getLong();
+        long expiresAt = buffer.getLong();
+        double price = buffer.getLong() / 100.0;
+        String tierType = new String(bytes, HEADER_BYTES, payloadBytes - HEADER_BYTES, StandardCharsets.UTF_8);
+        return new PriceQuote(eventId, tierType, price, expiresAt);
+    }
+
+    private byte[] mac(byte[] data, int length) {
+        Mac mac = macs.get();
+        try {
+            mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        mac.update(data, 0, length);
+        return Arrays.copyOf(mac.doFinal(), MAC_BYTES);
+    }
+}
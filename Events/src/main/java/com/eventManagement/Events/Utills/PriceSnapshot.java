@@ -0,0 +1,17 @@
+package com.eventManagement.Events.Utills;
+
+import java.time.Instant;
+import java.util.Map;
+
+// Immutable result of one pricing run: price multiplier per event and tier. Published by swapping
+// a single reference, so readers see either the old or the new run in full, never a mix.
+public record PriceSnapshot(long version, Instant computedAt, Map<Long, Map<String, Double>> multipliers) {
+
+    public static final PriceSnapshot EMPTY = new PriceSnapshot(0, Instant.EPOCH, Map.of());
+
+    public double multiplier(Long eventId, String tierType) {
+        Map<String, Double> tiers = multipliers.get(eventId);
+        Double multiplier = tiers == null ? null : tiers.get(tierType);
+        return multiplier == null ? 1.0 : multiplier;
+    }
+}
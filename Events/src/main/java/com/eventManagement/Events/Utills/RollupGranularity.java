@@ -0,0 +1,30 @@
+package com.eventManagement.Events.Utills;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES, Duration.ofHours(1)),
+    HOUR(ChronoUnit.HOURS, Duration.ofDays(2)),
+    DAY(ChronoUnit.DAYS, Duration.ofDays(30)),
+    TOTAL(null, null); // one bucket per event and tier, for O(1) totals
+
+    private final ChronoUnit unit;
+    private final Duration defaultRange;
+
+    RollupGranularity(ChronoUnit unit, Duration defaultRange) {
+        this.unit = unit;
+        this.defaultRange = defaultRange;
+    }
+
+    // Start of the bucket the instant falls into (UTC)
+    public Instant bucketOf(Instant instant) {
+        return unit == null ? Instant.EPOCH : instant.truncatedTo(unit);
+    }
+
+    public Duration getDefaultRange() {
+        return defaultRange;
+    }
+}
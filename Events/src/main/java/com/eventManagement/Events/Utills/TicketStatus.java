@@ -0,0 +1,7 @@
+package com.eventManagement.Events.Utills;
+
+
+public enum TicketStatus {
+    ACTIVE,
+    CANCELLED
+}
@@ -0,0 +1,35 @@
+package com.eventManagement.Events.Utills;
+
+import com.eventManagement.Events.Entity.TicketTier;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+
+@Component
+public class TicketTierParser {
+
+    // ObjectReader is immutable and thread-safe, so one instance is shared by every request
+    private final ObjectReader tierListReader;
+
+    public TicketTierParser(ObjectMapper objectMapper) {
+        this.tierListReader = objectMapper
+                .readerForListOf(TicketTier.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    // Parse the ticketTiers JSON array, e.g. [{"type":"Standard","price":50,"capacity":100}]
+    public List<TicketTier> parse(String json) {
+        if (json == null || json.isBlank()) {
+            return List.of();
+        }
+        try {
+            return tierListReader.readValue(json);
+        } catch (IOException e) {
+            throw new RuntimeException("Invalid ticketTiers JSON: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.eventManagement.Events.Utills;
+
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Compact signed ticket for QR codes: base64url(version | eventId | sequence | ticketId | mac), 50 chars.
+// The MAC is HMAC-SHA256 truncated to 128 bits under a per-event key derived from the JWT key, so a
+// scanner can verify tickets offline with the key of its own event and nothing else.
+@Component
+public class TicketTokenCodec {
+
+    public record TicketClaims(long eventId, int sequence, long ticketId) {}
+
+    private static final byte VERSION = 1;
+    private static final int PAYLOAD_BYTES = 1 + 8 + 4 + 8;
+    private static final int MAC_BYTES = 16;
+
+    private final JwtUtil jwtUtil;
+    private final Map<Long, byte[]> eventKeys = new ConcurrentHashMap<>();
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(() -> {
+        try {
+            return Mac.getInstance("HmacSHA256");
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    });
+
+    public TicketTokenCodec(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    public String encode(long eventId, int sequence, long ticketId) {
+        ByteBuffer buffer = ByteBuffer.allocate(PAYLOAD_BYTES + MAC_BYTES);
+        buffer.put(VERSION).putLong(eventId).putInt(sequence).putLong(ticketId);
+        buffer.put(mac(eventId, buffer.array(), PAYLOAD_BYTES));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    // Null when the token is malformed or the signature does not match
+    public TicketClaims decode(String token) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (bytes.length != PAYLOAD_BYTES + MAC_BYTES || bytes[0] != VERSION) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, PAYLOAD_BYTES - 1);
+        long eventId = buffer.getLong();
+        int sequence = buffer.getInt();
+        long ticketId = buffer.getLong();
+
+        byte[] expected = mac(eventId, bytes, PAYLOAD_BYTES);
+        byte[] actual = Arrays.copyOfRange(bytes, PAYLOAD_BYTES, bytes.length);
+        return MessageDigest.isEqual(expected, actual) ? new TicketClaims(eventId, sequence, ticketId) : null;
+    }
+
+    // Handed to the scanners of one event for offline verification
+    public byte[] eventKey(long eventId) {
+        return key(eventId).clone();
+    }
+
+    private byte[] key(long eventId) {
+        return eventKeys.computeIfAbsent(eventId, id -> jwtUtil.deriveKey("ticket-checkin:" + id));
+    }
+
+    private byte[] mac(long eventId, byte[] data, int length) {
+        Mac mac = macs.get();
+        try {
+            mac.init(new SecretKeySpec(key(eventId), "HmacSHA256"));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+        mac.update(data, 0, length);
+        return Arrays.copyOf(mac.doFinal(), MAC_BYTES);
+    }
+}
@@ -0,0 +1,46 @@
+package com.eventManagement.Events.Utills;
+
+import java.util.concurrent.TimeUnit;
+
+// Simple token bucket rate limiter shared by all notification workers of one channel
+public class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucket(double permitsPerSecond, double burst) {
+        this.capacity = Math.max(1, burst);
+        this.tokensPerNano = permitsPerSecond / 1_000_000_000.0;
+        this.tokens = this.capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    // Blocks until the permits are available; requests larger than the burst size are clamped to it
+    public void acquire(int permits) throws InterruptedException {
+        double needed = Math.min(permits, capacity);
+        while (true) {
+            long waitNanos;
+            synchronized (this) {
+                refill();
+                if (tokens >= needed) {
+                    tokens -= needed;
+                    return;
+                }
+                waitNanos = (long) ((needed - tokens) / tokensPerNano);
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.max(waitNanos, 1_000_000));
+        }
+    }
+
+    public int maxBatch() {
+        return (int) capacity;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+    }
+}
@@ -0,0 +1,10 @@
+-- Outbox events a subscriber has already applied, written in the same transaction as its change,
+-- so a redelivery is recognised after a restart too (SalesRollupAggregator)
+create table processed_outbox_events (
+    id           bigint generated by default as identity,
+    consumer     varchar(50) not null,
+    outbox_id    bigint not null,
+    processed_at timestamp(6) with time zone not null,
+    primary key (id),
+    constraint uk_processed_outbox unique (consumer, outbox_id)
+);
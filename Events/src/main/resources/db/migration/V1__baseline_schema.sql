@@ -0,0 +1,59 @@
+-- Baseline: the schema ddl-auto=update created before the migrations were introduced.
+-- Existing databases are baselined at this version and only get V2 onwards, so nothing
+-- added after that point may appear here.
+
+create table users (
+    id           bigint generated by default as identity,
+    name         varchar(100) not null,
+    email        varchar(150) not null,
+    password     varchar(255) not null,
+    phone        varchar(20),
+    organization varchar(150),
+    profile_pic  varchar(300),
+    primary key (id),
+    constraint uk_users_email unique (email)
+);
+
+create table user_roles (
+    user_id bigint not null,
+    role    varchar(255) check (role in ('ADMIN', 'ORGANIZER', 'ATTENDEE')),
+    constraint fk_user_roles_user foreign key (user_id) references users
+);
+
+create table events (
+    id           bigint generated by default as identity,
+    name         varchar(150) not null,
+    description  varchar(1000) not null,
+    category     varchar(50) not null,
+    start_date   date,
+    end_date     date,
+    location     varchar(150) not null,
+    capacity     integer not null,
+    ticket_tiers text,
+    price        double precision not null,
+    image        varchar(255),
+    agenda       varchar(1000),
+    organizer    varchar(100) not null,
+    primary key (id)
+);
+
+create table event_cards (
+    id          bigint generated by default as identity,
+    name        varchar(255),
+    description varchar(1000),
+    category    varchar(255),
+    date        date,
+    location    varchar(255),
+    organizer   varchar(255),
+    image       varchar(255),
+    price       double precision not null,
+    rating      double precision not null,
+    attendees   integer not null,
+    primary key (id)
+);
+
+create table event_cards_tags (
+    event_cards_id bigint not null,
+    tags           varchar(255),
+    constraint fk_event_cards_tags_card foreign key (event_cards_id) references event_cards
+);
@@ -0,0 +1,132 @@
+-- Tables and columns added on top of the baseline: ticket tiers and tickets, the outbox,
+-- the catalog projection, notifications and sales rollups.
+
+-- Ticket tiers (TicketTierService)
+alter table events add column min_price double precision;
+alter table events add column tickets_issued integer not null default 0;
+
+create index idx_events_min_price on events (min_price);
+
+create table ticket_tiers (
+    id       bigint generated by default as identity,
+    event_id bigint not null,
+    type     varchar(50) not null,
+    price    double precision not null,
+    capacity integer not null,
+    sold     integer not null,
+    primary key (id),
+    constraint fk_ticket_tiers_event foreign key (event_id) references events
+);
+
+create index idx_ticket_tiers_event_price on ticket_tiers (event_id, price);
+
+-- Events created before tiers were rows only have the JSON column; parse it once here.
+-- A row whose JSON is not a tier array is skipped and gets its tiers on the next edit.
+-- Like TicketTierService.applyTiers, a tier without its own capacity shares the event capacity.
+do $$
+declare
+    e record;
+begin
+    for e in select id, capacity, ticket_tiers from events where ticket_tiers is not null and ticket_tiers <> '' loop
+        begin
+            insert into ticket_tiers (event_id, type, price, capacity, sold)
+            select e.id, t ->> 'type', coalesce((t ->> 'price')::double precision, 0),
+                   case when (t ->> 'capacity')::integer > 0 then (t ->> 'capacity')::integer else e.capacity end, 0
+            from jsonb_array_elements(e.ticket_tiers::jsonb) t;
+        exception when others then
+            raise notice 'Skipping ticket tiers of event %: %', e.id, sqlerrm;
+        end;
+    end loop;
+end $$;
+
+update events e set min_price = (select min(t.price) from ticket_tiers t where t.event_id = e.id);
+
+-- Users' language for notifications (NotificationService)
+alter table users add column locale varchar(10);
+
+create table tickets (
+    id           bigint generated by default as identity,
+    event_id     bigint not null,
+    user_id      bigint not null,
+    tier_type    varchar(50) not null,
+    price_paid   double precision not null,
+    sequence     integer not null,
+    status       varchar(20) not null check (status in ('ACTIVE', 'CANCELLED')),
+    purchased_at timestamp(6) with time zone not null,
+    primary key (id),
+    constraint uk_tickets_event_sequence unique (event_id, sequence)
+);
+
+create index idx_tickets_event_user on tickets (event_id, user_id);
+
+create table outbox_events (
+    id             bigint generated by default as identity,
+    aggregate_type varchar(50) not null,
+    aggregate_id   bigint not null,
+    event_type     varchar(100) not null,
+    payload        text not null,
+    created_at     timestamp(6) with time zone not null,
+    published_at   timestamp(6) with time zone,
+    attempts       integer not null,
+    last_error     varchar(500),
+    primary key (id)
+);
+
+create index idx_outbox_pending on outbox_events (published_at, id);
+
+create table catalog_entries (
+    id           bigint generated by default as identity,
+    source_type  varchar(20) not null,
+    source_id    bigint not null,
+    name         varchar(150) not null,
+    description  varchar(1000),
+    category     varchar(50),
+    location     varchar(150),
+    organizer    varchar(150),
+    image        varchar(255),
+    start_date   date,
+    end_date     date,
+    min_price    double precision,
+    rating       double precision,
+    attendees    integer not null,
+    tags         varchar(1000),
+    projected_at timestamp(6) with time zone not null,
+    primary key (id),
+    constraint uk_catalog_source unique (source_type, source_id)
+);
+
+create index idx_catalog_start_date on catalog_entries (start_date);
+create index idx_catalog_category_start_date on catalog_entries (category, start_date);
+
+create sequence notification_seq start with 1 increment by 500;
+
+create table notifications (
+    id         bigint not null,
+    user_id    bigint not null,
+    event_id   bigint,
+    subject    varchar(200) not null,
+    body       text not null,
+    created_at timestamp(6) with time zone not null,
+    read_at    timestamp(6) with time zone,
+    primary key (id)
+);
+
+create index idx_notifications_user_created on notifications (user_id, created_at);
+
+create table sales_rollups (
+    id           bigint generated by default as identity,
+    event_id     bigint not null,
+    organizer    varchar(100) not null,
+    tier_type    varchar(50) not null,
+    granularity  varchar(10) not null,
+    bucket_start timestamp(6) with time zone not null,
+    sold         bigint not null,
+    cancelled    bigint not null,
+    revenue      double precision not null,
+    version      bigint not null,
+    primary key (id),
+    constraint uk_sales_rollup_bucket unique (event_id, tier_type, granularity, bucket_start)
+);
+
+create index idx_sales_rollup_event on sales_rollups (event_id, granularity, bucket_start);
+create index idx_sales_rollup_organizer on sales_rollups (organizer, granularity, bucket_start);
@@ -0,0 +1,12 @@
+-- Indexes ddl-auto never created. "if not exists" so baselined databases that already
+-- have some of them by hand still migrate.
+
+-- TicketRepository.findByUserIdOrderByPurchasedAtDesc ("my tickets")
+create index if not exists idx_tickets_user_purchased on tickets (user_id, purchased_at desc);
+
+-- Element collections are loaded by their foreign key, which Postgres does not index on its own
+create index if not exists idx_user_roles_user on user_roles (user_id);
+create index if not exists idx_event_cards_tags_card on event_cards_tags (event_cards_id);
+
+-- OutboxRelay polls "published_at is null order by id"; only the small unpublished tail is indexed
+create index if not exists idx_outbox_unpublished on outbox_events (id) where published_at is null;
@@ -0,0 +1,6 @@
+-- Calendar queries ask for entries whose [start_date, end_date] overlaps a window.
+-- A btree on start_date can only bound one side, so index the date range itself.
+-- Rows without a start date would become an unbounded range and are left out.
+create index if not exists idx_catalog_date_range
+    on catalog_entries using gist (daterange(start_date, end_date, '[]'))
+    where start_date is not null;
@@ -0,0 +1,2 @@
+-- Door scans are synced back here by CheckInService
+alter table tickets add column checked_in_at timestamp(6) with time zone;
@@ -0,0 +1,25 @@
+-- Past events move here (ArchiveService) so the hot tables and their indexes only hold current ones
+create table archived_events (
+    id          bigint generated by default as identity,
+    source_type varchar(20) not null,
+    source_id   bigint not null,
+    name        varchar(255),
+    category    varchar(255),
+    organizer   varchar(255),
+    start_date  date,
+    end_date    date not null,
+    archived_at timestamp(6) with time zone not null,
+    raw_bytes   integer not null,
+    payload     bytea not null,
+    primary key (id),
+    constraint uk_archived_source unique (source_type, source_id)
+);
+
+-- The payload is already gzip, don't let TOAST try to compress it again
+alter table archived_events alter column payload set storage external;
+
+create index idx_archived_end_date on archived_events (end_date);
+
+-- What the nightly mover scans for
+create index idx_events_end_date on events ((coalesce(end_date, start_date)));
+create index idx_event_cards_date on event_cards (date);
@@ -0,0 +1,6 @@
+-- A failed outbox row waits until next_attempt_at before OutboxRelay tries it again
+alter table outbox_events add column next_attempt_at timestamp(6) with time zone;
+
+-- The few rows waiting out a backoff, looked up per aggregate to hold back its later events
+create index idx_outbox_backoff on outbox_events (aggregate_type, aggregate_id, id)
+    where published_at is null and next_attempt_at is not null;
@@ -0,0 +1,5 @@
+-- An outbox row that failed app.outbox.max-attempts times is parked with failed_at set instead of
+-- being marked published; OutboxRelay skips it until it is replayed through /api/admin/outbox
+alter table outbox_events add column failed_at timestamp(6) with time zone;
+
+create index idx_outbox_failed on outbox_events (id) where failed_at is not null;
@@ -0,0 +1,19 @@
+-- Ticket holder notification jobs (NotificationDispatcher). last_user_id is the keyset cursor up to
+-- which every recipient page is done; a job whose owner stops heartbeating is resumed from there.
+create table notification_jobs (
+    id           bigint generated by default as identity,
+    outbox_id    bigint not null,
+    event_id     bigint not null,
+    template_key varchar(100) not null,
+    args         text not null,
+    channels     varchar(50) not null,
+    last_user_id bigint not null,
+    owner        varchar(36) not null,
+    heartbeat_at timestamp(6) with time zone not null,
+    created_at   timestamp(6) with time zone not null,
+    finished_at  timestamp(6) with time zone,
+    primary key (id),
+    constraint uk_notification_jobs_outbox unique (outbox_id)
+);
+
+create index idx_notification_jobs_running on notification_jobs (heartbeat_at) where finished_at is null;
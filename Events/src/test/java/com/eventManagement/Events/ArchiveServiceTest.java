@@ -0,0 +1,150 @@
+package com.eventManagement.Events;
+
+import com.eventManagement.Events.Controller.ArchiveController;
+import com.eventManagement.Events.Entity.ArchivedEvent;
+import com.eventManagement.Events.Entity.Event;
+import com.eventManagement.Events.Repository.ArchivedEventRepository;
+import com.eventManagement.Events.Repository.EventRepository;
+import com.eventManagement.Events.Repository.OutboxEventRepository;
+import com.eventManagement.Events.Service.ArchiveService;
+import com.eventManagement.Events.Service.EventService;
+import com.eventManagement.Events.Utills.DomainEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+import redis.embedded.RedisServer;
+
+import java.io.ByteArrayInputStream;
+import java.net.ServerSocket;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Against the configured database like contextLoads; every test rolls back, archived rows included
+@SpringBootTest(properties = "app.archive.batch-size=2")
+@Transactional
+class ArchiveServiceTest {
+
+    private static RedisServer redis;
+    private static int redisPort;
+
+    @Autowired
+    private ArchiveService archiveService;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redis = new RedisServer(redisPort);
+        redis.start();
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.stop();
+    }
+
+    @Test
+    void archiveEndedMovesOneBatchAndDeletesIt() {
+        // Older than anything else in the database, so the batches only hold these
+        LocalDate cutoff = LocalDate.of(1990, 2, 1);
+        List<Long> ended = saveEvents(5, LocalDate.of(1990, 1, 1));
+        Long upcoming = saveEvents(1, LocalDate.now().plusDays(10)).get(0);
+        long outboxBefore = outboxEventRepository.count();
+
+        assertEquals(3, eventService.archiveEnded(cutoff, 3));
+
+        List<Long> moved = ended.stream().filter(id -> eventRepository.findById(id).isEmpty()).toList();
+        assertEquals(ended.subList(0, 3), moved);
+        for (Long id : moved) {
+            ArchivedEvent archived = archivedEventRepository.findBySourceTypeAndSourceId(DomainEvent.EVENT, id).orElseThrow();
+            assertEquals("Archived " + id, archived.getName());
+        }
+        assertEquals(outboxBefore + 3, outboxEventRepository.count());
+
+        // The rest goes with the next batch; upcoming events stay
+        assertEquals(2, eventService.archiveEnded(cutoff, 3));
+        assertEquals(0, eventService.archiveEnded(cutoff, 3));
+        assertTrue(eventRepository.findById(upcoming).isPresent());
+        assertTrue(archivedEventRepository.findBySourceTypeAndSourceId(DomainEvent.EVENT, upcoming).isEmpty());
+    }
+
+    @Test
+    void archivePastDrainsInBatches() {
+        List<Long> ended = saveEvents(5, LocalDate.now().minusDays(10));
+
+        archiveService.archivePast();
+
+        for (Long id : ended) {
+            assertTrue(eventRepository.findById(id).isEmpty());
+            assertTrue(archivedEventRepository.findBySourceTypeAndSourceId(DomainEvent.EVENT, id).isPresent());
+        }
+    }
+
+    @Test
+    void recordIsServedGzippedOrAsPlainJson() throws Exception {
+        Long id = saveEvents(1, LocalDate.now().minusDays(10)).get(0);
+        eventService.archiveEnded(LocalDate.now().minusDays(1), 10);
+        MockMvc mvc = MockMvcBuilders.standaloneSetup(new ArchiveController(archiveService)).build();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        MvcResult gzipped = mvc.perform(get("/api/archive/events/" + id).header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT_ENCODING)))
+                .andReturn();
+        byte[] stored = gzipped.getResponse().getContentAsByteArray();
+        assertArrayEquals(archiveService.getCompressed(DomainEvent.EVENT, id), stored);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(stored))) {
+            assertEquals("Archived " + id, objectMapper.readTree(in.readAllBytes()).get("name").asText());
+        }
+
+        MvcResult plain = mvc.perform(get("/api/archive/events/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andReturn();
+        JsonNode json = objectMapper.readTree(plain.getResponse().getContentAsByteArray());
+        assertEquals("Archived " + id, json.get("name").asText());
+        assertEquals("Acme", json.get("organizer").asText());
+
+        mvc.perform(get("/api/archive/events/-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private List<Long> saveEvents(int count, LocalDate date) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Event event = eventRepository.save(new Event("Archive test", "d", "Music", date, date, "Lisbon",
+                    10, null, 10, null, null, "Acme"));
+            event.setName("Archived " + event.getId());
+            ids.add(event.getId());
+        }
+        eventRepository.flush();
+        return ids;
+    }
+}
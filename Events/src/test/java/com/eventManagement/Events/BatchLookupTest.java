@@ -0,0 +1,143 @@
+package com.eventManagement.Events;
+
+import com.eventManagement.Events.Entity.Event;
+import com.eventManagement.Events.Entity.User;
+import com.eventManagement.Events.Repository.EventRepository;
+import com.eventManagement.Events.Repository.UserRepository;
+import com.eventManagement.Events.Service.EventService;
+import com.eventManagement.Events.Service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Batch lookups with some ids cached, some only in the database and some unknown. Rows are renamed in the
+// database behind the caches' backs, so the returned names tell where each one came from.
+@SpringBootTest
+@Transactional
+class BatchLookupTest {
+
+    private static RedisServer redis;
+    private static int redisPort;
+
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private EventService eventService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            redisPort = socket.getLocalPort();
+        }
+        redis = new RedisServer(redisPort);
+        redis.start();
+        registry.add("spring.data.redis.port", () -> redisPort);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        redis.stop();
+    }
+
+    @Test
+    void usersComeFromRedisOrOneQueryAndMissesAreCachedWithoutPassword() {
+        User cached = saveUser("cached");
+        User first = saveUser("first");
+        User second = saveUser("second");
+        userService.getUserById(cached.getId());
+        rename("users", cached.getId(), "renamed");
+
+        List<User> users = userService.getUsersByIds(List.of(first.getId(), cached.getId(), -1L, second.getId(), first.getId()));
+
+        assertEquals(List.of(first.getId(), cached.getId(), second.getId()), users.stream().map(User::getId).toList());
+        assertEquals(List.of("first", "cached", "second"), users.stream().map(User::getName).toList());
+
+        // The misses were written back; what Redis holds is public data only
+        for (User user : List.of(first, second)) {
+            String json = stringRedisTemplate.opsForValue().get("user:" + user.getId());
+            assertNotNull(json);
+            assertTrue(json.contains("\"name\":\"" + user.getName() + "\""));
+            assertFalse(json.contains("password"), json);
+            assertFalse(json.contains(user.getPassword()), json);
+            assertTrue(stringRedisTemplate.getExpire("user:" + user.getId()) > 0);
+        }
+        assertFalse(stringRedisTemplate.hasKey("user:-1"));
+
+        // Second round is served from Redis alone
+        rename("users", first.getId(), "renamed");
+        rename("users", second.getId(), "renamed");
+        assertEquals(List.of("first", "second"), userService.getUsersByIds(List.of(first.getId(), second.getId()))
+                .stream().map(User::getName).toList());
+    }
+
+    // Cache entries are only readable by sessions that start after they were put, so this one commits
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void eventsComeFromTheSecondLevelCacheOrOneQuery() {
+        Long cached = saveEvent("cached");
+        Long first = saveEvent("first");
+        Long second = saveEvent("second");
+        try {
+            eventService.getByIds(List.of(cached));
+            rename("events", cached, "renamed");
+            CacheRegionStatistics region = entityManagerFactory.unwrap(SessionFactory.class)
+                    .getStatistics().getCacheRegionStatistics("events");
+            long hits = region.getHitCount();
+            long misses = region.getMissCount();
+
+            List<Event> events = eventService.getByIds(List.of(first, cached, -1L, second, first));
+
+            assertEquals(List.of(first, cached, second), events.stream().map(Event::getId).toList());
+            assertEquals(List.of("first", "cached", "second"), events.stream().map(Event::getName).toList());
+            assertEquals(1, region.getHitCount() - hits);
+            assertEquals(3, region.getMissCount() - misses);
+            // Tiers were loaded before the session closed
+            assertTrue(events.stream().allMatch(e -> e.getTiers().isEmpty()));
+        } finally {
+            eventRepository.deleteAllById(List.of(cached, first, second));
+        }
+    }
+
+    private User saveUser(String name) {
+        User user = userRepository.save(new User(name, name + "-" + System.nanoTime() + "@example.com", "$2a$10$secret-hash-" + name));
+        userRepository.flush();
+        return user;
+    }
+
+    private Long saveEvent(String name) {
+        LocalDate date = LocalDate.now().plusDays(30);
+        return eventRepository.save(new Event(name, "d", "Music", date, date, "Lisbon",
+                10, null, 10, null, null, "Acme")).getId();
+    }
+
+    // Plain JDBC: Hibernate and Redis do not notice
+    private void rename(String table, Long id, String name) {
+        jdbcTemplate.update("update " + table + " set name = ? where id = ?", name, id);
+    }
+}
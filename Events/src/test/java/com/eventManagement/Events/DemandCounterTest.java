@@ -0,0 +1,109 @@
+package com.eventManagement.Events;
+
+import com.eventManagement.Events.Utills.DemandCounter;
+import com.eventManagement.Events.Utills.DemandSignal;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// One-second buckets, ten of them; a huge half-life weighs every bucket the same
+class DemandCounterTest {
+
+    private static final double NO_DECAY = 1e12;
+
+    @Test
+    void countsAreAveragedOverTheWindowPerSignal() {
+        DemandCounter counter = new DemandCounter(1000, 10);
+        for (int i = 0; i < 3; i++) {
+            counter.record(DemandSignal.PURCHASE, 10_500);
+        }
+        counter.record(DemandSignal.VIEW, 10_500);
+
+        assertEquals(0.3, counter.rate(DemandSignal.PURCHASE, 10_999, NO_DECAY), 1e-9);
+        assertEquals(0.1, counter.rate(DemandSignal.VIEW, 10_999, NO_DECAY), 1e-9);
+        assertEquals(0.0, counter.rate(DemandSignal.HOLD, 10_999, NO_DECAY), 1e-9);
+    }
+
+    @Test
+    void runningBucketCountsForTheElapsedPartOnly() {
+        DemandCounter counter = new DemandCounter(1000, 10);
+        for (int i = 0; i < 3; i++) {
+            counter.record(DemandSignal.PURCHASE, 10_000);
+        }
+
+        // 100 ms into the bucket: nine full buckets plus a tenth of the running one
+        assertEquals(3 / 9.1, counter.rate(DemandSignal.PURCHASE, 10_099, NO_DECAY), 1e-9);
+        assertEquals(3 / 10.0, counter.rate(DemandSignal.PURCHASE, 10_999, NO_DECAY), 1e-9);
+    }
+
+    @Test
+    void bucketHalfLifeOldCountsHalf() {
+        DemandCounter recent = new DemandCounter(1000, 10);
+        DemandCounter older = new DemandCounter(1000, 10);
+        for (int i = 0; i < 4; i++) {
+            recent.record(DemandSignal.HOLD, 10_500);
+            older.record(DemandSignal.HOLD, 8_500);
+        }
+
+        double recentRate = recent.rate(DemandSignal.HOLD, 10_999, 2);
+        double olderRate = older.rate(DemandSignal.HOLD, 10_999, 2);
+        assertTrue(recentRate > 0);
+        assertEquals(0.5, olderRate / recentRate, 1e-9);
+    }
+
+    @Test
+    void reusedSlotStartsFromZeroAndOldBucketsFallOutOfTheWindow() {
+        DemandCounter counter = new DemandCounter(1000, 10);
+        for (int i = 0; i < 5; i++) {
+            counter.record(DemandSignal.PURCHASE, 500);
+        }
+        assertEquals(0.0, counter.rate(DemandSignal.PURCHASE, 10_999, NO_DECAY), 1e-9);
+
+        // Bucket 10 takes over slot 0 of bucket 0
+        counter.record(DemandSignal.PURCHASE, 10_500);
+        assertEquals(0.1, counter.rate(DemandSignal.PURCHASE, 10_999, NO_DECAY), 1e-9);
+
+        // A caller with a clock behind does not overwrite the newer bucket
+        counter.record(DemandSignal.PURCHASE, 700);
+        assertEquals(0.1, counter.rate(DemandSignal.PURCHASE, 10_999, NO_DECAY), 1e-9);
+    }
+
+    @Test
+    void idleOnceNothingIsLeftInTheWindow() {
+        DemandCounter counter = new DemandCounter(1000, 10);
+        assertTrue(counter.isIdle(10_000));
+
+        counter.record(DemandSignal.VIEW, 10_500);
+        assertFalse(counter.isIdle(10_500));
+        assertFalse(counter.isIdle(19_999));
+        assertTrue(counter.isIdle(20_000));
+    }
+
+    @Test
+    void concurrentRecordsAreNotLost() throws Exception {
+        DemandCounter counter = new DemandCounter(1000, 10);
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int t = 0; t < threads; t++) {
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    counter.record(DemandSignal.PURCHASE, 10_500);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertEquals(threads * perThread / 10.0, counter.rate(DemandSignal.PURCHASE, 10_999, NO_DECAY), 1e-6);
+    }
+}
@@ -0,0 +1,154 @@
+package com.eventManagement.Events;
+
+import com.eventManagement.Events.Service.InventoryCounters;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the inventory Lua scripts against a real (embedded) Redis, no Spring context needed
+class InventoryCountersTest {
+
+    private static RedisServer redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static InventoryCounters counters;
+    private static StringRedisTemplate template;
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redis = new RedisServer(port);
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        template = new StringRedisTemplate(connectionFactory);
+        counters = new InventoryCounters(template);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    @BeforeEach
+    void flush() {
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+    }
+
+    @Test
+    void reserveNeedsLoadedCounters() {
+        assertEquals(InventoryCounters.NOT_LOADED, counters.reserve(1L, "Standard"));
+    }
+
+    @Test
+    void reserveHandsOutSequencesUntilTierIsSoldOut() {
+        counters.init(1L, 10, 4, Map.of("VIP", 2L, "Standard", 8L), 14, Map.of("VIP", 4L, "Standard", 10L));
+
+        assertEquals(5, counters.reserve(1L, "VIP"));
+        assertEquals(6, counters.reserve(1L, "VIP"));
+        assertEquals(InventoryCounters.SOLD_OUT, counters.reserve(1L, "VIP"));
+        assertEquals(InventoryCounters.UNKNOWN_TIER, counters.reserve(1L, "Balcony"));
+        assertEquals(Map.of("total", 8L, "seq", 6L, "t:VIP", 0L, "t:Standard", 8L), counters.get(1L));
+        assertEquals(List.of(1L), counters.popDirty(10));
+    }
+
+    @Test
+    void eventCapacityCapsAllTiers() {
+        counters.init(1L, 1, 0, Map.of("VIP", 5L, "Standard", 5L), 1, Map.of("VIP", 5L, "Standard", 5L));
+
+        assertEquals(1, counters.reserve(1L, "VIP"));
+        assertEquals(InventoryCounters.SOLD_OUT, counters.reserve(1L, "Standard"));
+    }
+
+    @Test
+    void releaseGivesTheSeatBack() {
+        counters.init(1L, 1, 0, Map.of("Standard", 1L), 1, Map.of("Standard", 1L));
+        counters.reserve(1L, "Standard");
+
+        counters.release(1L, "Standard");
+
+        assertEquals(2, counters.reserve(1L, "Standard"));
+    }
+
+    @Test
+    void initDoesNotOverwriteLiveCounters() {
+        counters.init(1L, 5, 0, Map.of("Standard", 5L), 5, Map.of("Standard", 5L));
+        counters.reserve(1L, "Standard");
+
+        assertFalse(counters.init(1L, 5, 0, Map.of("Standard", 5L), 5, Map.of("Standard", 5L)));
+        assertEquals(4L, counters.get(1L).get("t:Standard"));
+    }
+
+    @Test
+    void rebuildAfterRedisLossContinuesFromDatabaseState() {
+        counters.init(1L, 5, 0, Map.of("Standard", 5L), 5, Map.of("Standard", 5L));
+        counters.reserve(1L, "Standard");
+        counters.reserve(1L, "Standard");
+
+        // Redis lost its data; the tickets table says 2 sold, last sequence 2
+        flush();
+        assertEquals(InventoryCounters.NOT_LOADED, counters.reserve(1L, "Standard"));
+        assertTrue(counters.init(1L, 3, 2, Map.of("Standard", 3L), 5, Map.of("Standard", 5L)));
+
+        assertEquals(3, counters.reserve(1L, "Standard"));
+    }
+
+    @Test
+    void adjustAppliesCapacityChangesToLiveCounters() {
+        counters.init(1L, 5, 0, Map.of("VIP", 2L, "Standard", 3L), 5, Map.of("VIP", 2L, "Standard", 3L));
+        counters.reserve(1L, "Standard");
+
+        // Standard 3 -> 5, VIP dropped, Balcony added, event 5 -> 8
+        assertTrue(counters.adjust(1L, 8, Map.of("Standard", 5L, "Balcony", 2L)));
+        assertTrue(counters.adjust(1L, 8, Map.of("Standard", 5L, "Balcony", 2L)));
+
+        assertEquals(Map.of("total", 7L, "seq", 1L, "t:Standard", 4L, "t:Balcony", 2L), counters.get(1L));
+        assertEquals(InventoryCounters.UNKNOWN_TIER, counters.reserve(1L, "VIP"));
+    }
+
+    @Test
+    void adjustLeavesUnloadedCountersAlone() {
+        assertFalse(counters.adjust(1L, 8, Map.of("Standard", 5L)));
+        assertTrue(counters.get(1L).isEmpty());
+    }
+
+    @Test
+    void concurrentBuyersNeverOversell() throws Exception {
+        counters.init(1L, 100, 0, Map.of("Standard", 100L), 100, Map.of("Standard", 100L));
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        List<Future<Long>> attempts = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            attempts.add(pool.submit(() -> counters.reserve(1L, "Standard")));
+        }
+        Set<Long> sequences = new HashSet<>();
+        int soldOut = 0;
+        for (Future<Long> attempt : attempts) {
+            long result = attempt.get();
+            if (result == InventoryCounters.SOLD_OUT) {
+                soldOut++;
+            } else {
+                assertTrue(sequences.add(result), "sequence handed out twice: " + result);
+            }
+        }
+        pool.shutdown();
+
+        assertEquals(100, sequences.size());
+        assertEquals(300, soldOut);
+        assertEquals(0L, counters.get(1L).get("total"));
+    }
+}
@@ -0,0 +1,122 @@
+package com.eventManagement.Events;
+
+import com.eventManagement.Events.Entity.EventCards;
+import com.eventManagement.Events.Repository.EventCardsRepository;
+import com.eventManagement.Events.Service.LeaderboardService;
+import com.eventManagement.Events.Service.LeaderboardService.RankedCard;
+import com.eventManagement.Events.Utills.BroadcastEvent;
+import com.eventManagement.Events.Utills.DomainEvent;
+import com.eventManagement.Events.Utills.LeaderboardType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Trending with a one-hour half-life; time is moved by shifting the forward-decay landmark back, so
+// scores are compared loosely for the milliseconds that really pass
+class LeaderboardServiceTest {
+
+    private static final long HOUR = 3_600_000;
+
+    private final Map<Long, EventCards> cards = new HashMap<>();
+    private LeaderboardService leaderboards;
+
+    @BeforeEach
+    void setUp() {
+        EventCardsRepository repository = mock(EventCardsRepository.class);
+        when(repository.findAll()).thenAnswer(call -> new ArrayList<>(cards.values()));
+        when(repository.findById(anyLong())).thenAnswer(call -> Optional.ofNullable(cards.get(call.<Long>getArgument(0))));
+        leaderboards = new LeaderboardService(repository, 1);
+
+        card(1L, "Music", 100);
+        card(2L, "Music", 100);
+        card(3L, "Sports", 100);
+        leaderboards.rebuild();
+    }
+
+    @Test
+    void growthOneHalfLifeOldCountsHalf() {
+        grow(1L, 10);
+        hoursPass(1);
+        grow(2L, 10);
+
+        List<RankedCard> top = leaderboards.getTop(LeaderboardType.TRENDING, null, 3);
+        assertEquals(List.of(2L, 1L, 3L), ids(top));
+        assertEquals(10.0, top.get(0).score(), 1e-3);
+        assertEquals(5.0, top.get(1).score(), 1e-3);
+        assertEquals(0.0, top.get(2).score(), 1e-3);
+
+        // Older growth adds up with newer growth of the same card at its decayed value
+        hoursPass(2);
+        grow(1L, 4);
+        top = leaderboards.getTop(LeaderboardType.TRENDING, null, 3);
+        assertEquals(List.of(1L, 2L, 3L), ids(top));
+        assertEquals(4 + 10 / 8.0, top.get(0).score(), 1e-3);
+        assertEquals(10 / 4.0, top.get(1).score(), 1e-3);
+    }
+
+    @Test
+    void dropsDoNotTrendAndCategoriesRankSeparately() {
+        grow(3L, -50);
+        grow(2L, 1);
+
+        // Cards that did not grow tie at zero and are ordered by attendees
+        assertEquals(List.of(2L, 1L, 3L), ids(leaderboards.getTop(LeaderboardType.TRENDING, null, 3)));
+        assertEquals(0.0, leaderboards.getTop(LeaderboardType.TRENDING, "sports", 1).get(0).score(), 1e-3);
+        assertEquals(List.of(2L, 1L), ids(leaderboards.getTop(LeaderboardType.TRENDING, " MUSIC ", 5)));
+    }
+
+    @Test
+    void rebaseScalesScoresDownWithoutChangingThem() {
+        grow(1L, 10);
+        hoursPass(1);
+        grow(2L, 10);
+
+        // More than 64 half-lives since the landmark: the next weight would pass 2^64
+        hoursPass(70);
+        grow(3L, 1);
+
+        long landmark = (long) ReflectionTestUtils.getField(leaderboards, "landmarkMs");
+        assertTrue(System.currentTimeMillis() - landmark < HOUR);
+        List<RankedCard> top = leaderboards.getTop(LeaderboardType.TRENDING, null, 3);
+        assertEquals(List.of(3L, 2L, 1L), ids(top));
+        assertEquals(1.0, top.get(0).score(), 1e-3);
+        assertEquals(10 * Math.pow(2, -70), top.get(1).score(), 1e-3 * Math.pow(2, -70));
+        assertEquals(10 * Math.pow(2, -71), top.get(2).score(), 1e-3 * Math.pow(2, -70));
+        // Per category too
+        assertEquals(10 * Math.pow(2, -70), leaderboards.getTop(LeaderboardType.TRENDING, "Music", 1).get(0).score(),
+                1e-3 * Math.pow(2, -70));
+    }
+
+    private void hoursPass(int hours) {
+        long landmark = (long) ReflectionTestUtils.getField(leaderboards, "landmarkMs");
+        ReflectionTestUtils.setField(leaderboards, "landmarkMs", landmark - hours * HOUR);
+    }
+
+    // A new instance, as loaded by the repository; the boards still hold the previous one
+    private void grow(Long id, int attendees) {
+        EventCards previous = cards.get(id);
+        card(id, previous.getCategory(), previous.getAttendees() + attendees);
+        leaderboards.onCardChange(new BroadcastEvent(new DomainEvent(1L, DomainEvent.EVENT_CARD, id,
+                DomainEvent.UPDATED, Map.of(), Instant.now())));
+    }
+
+    private void card(Long id, String category, int attendees) {
+        EventCards card = new EventCards();
+        card.setId(id);
+        card.setName("Card " + id);
+        card.setCategory(category);
+        card.setAttendees(attendees);
+        cards.put(id, card);
+    }
+
+    private static List<Long> ids(List<RankedCard> ranked) {
+        return ranked.stream().map(RankedCard::id).toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.eventManagement.Events;
+
+import com.eventManagement.Events.Utills.Leaderboard;
+import com.eventManagement.Events.Utills.Leaderboard.Ranked;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    @Test
+    void rankedByScoreThenTieBreakThenId() {
+        Leaderboard<String> board = new Leaderboard<>();
+        board.put(3, 5.0, 1.0, "c");
+        board.put(1, 9.0, 0.0, "a");
+        board.put(2, 5.0, 4.0, "b");
+        board.put(4, 5.0, 1.0, "d");
+
+        assertEquals(List.of("a", "b", "c", "d"), items(board.top(10)));
+        assertEquals(List.of("a", "b"), items(board.top(2)));
+        assertEquals(4, board.size());
+    }
+
+    @Test
+    void changedScoreMovesTheEntryAndRemoveDropsIt() {
+        Leaderboard<String> board = new Leaderboard<>();
+        board.put(1, 9.0, 0.0, "a");
+        board.put(2, 5.0, 0.0, "b");
+        board.put(3, 1.0, 0.0, "c");
+
+        board.put(3, 10.0, 0.0, "c2");
+        assertEquals(List.of("c2", "a", "b"), items(board.top(10)));
+        assertEquals(10.0, board.score(3));
+        assertEquals(3, board.size());
+
+        board.remove(1);
+        board.remove(42);
+        assertEquals(List.of("c2", "b"), items(board.top(10)));
+        assertNull(board.score(1));
+        assertEquals(2, board.size());
+    }
+
+    @Test
+    void rescaleMultipliesEveryScoreAndKeepsTheOrder() {
+        Leaderboard<String> board = new Leaderboard<>();
+        board.put(1, 8.0, 0.0, "a");
+        board.put(2, 4.0, 2.0, "b");
+        board.put(3, 4.0, 1.0, "c");
+
+        board.rescale(0.25);
+
+        List<Ranked<String>> top = board.top(10);
+        assertEquals(List.of("a", "b", "c"), items(top));
+        assertEquals(List.of(2.0, 1.0, 1.0), top.stream().map(Ranked::score).toList());
+        assertEquals(1.0, board.score(3));
+
+        // The index points at the rescaled entries, so later updates still replace them
+        board.put(3, 3.0, 1.0, "c");
+        assertEquals(List.of("c", "a", "b"), items(board.top(10)));
+        assertEquals(3, board.size());
+    }
+
+    private static List<String> items(List<Ranked<String>> ranked) {
+        return ranked.stream().map(Ranked::item).toList();
+    }
+}
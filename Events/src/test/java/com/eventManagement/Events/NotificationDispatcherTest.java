@@ -0,0 +1,159 @@
+package com.eventManagement.Events;
+
+import com.eventManagement.Events.Entity.NotificationJob;
+import com.eventManagement.Events.Repository.NotificationJobRepository;
+import com.eventManagement.Events.Repository.NotificationRepository;
+import com.eventManagement.Events.Repository.TicketRepository;
+import com.eventManagement.Events.Service.NotificationDispatcher;
+import com.eventManagement.Events.Service.NotificationDispatcher.Channel;
+import com.eventManagement.Events.Utills.NotificationRecipient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Fans out through a real SMTP server (GreenMail) with the repositories mocked; pages of 3 recipients
+class NotificationDispatcherTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private static final Object[] ARGS = {"Jazz Night", "2026-11-01", "2026-11-01", "Lisbon"};
+
+    private TicketRepository ticketRepository;
+    private NotificationRepository notificationRepository;
+    private NotificationJobRepository jobRepository;
+    private NotificationDispatcher dispatcher;
+    private final List<NotificationRecipient> holders = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository = mock(TicketRepository.class);
+        notificationRepository = mock(NotificationRepository.class);
+        jobRepository = mock(NotificationJobRepository.class);
+        for (long id = 1; id <= 7; id++) {
+            holders.add(new NotificationRecipient(id, "holder" + id + "@example.com", id == 2 ? "es" : "en"));
+        }
+        when(ticketRepository.findHolderPage(eq(42L), anyLong(), any())).thenAnswer(call -> page(call.getArgument(1), call.getArgument(2)));
+        when(jobRepository.save(any())).thenAnswer(call -> {
+            NotificationJob job = call.getArgument(0);
+            job.setId(1L);
+            return job;
+        });
+        when(jobRepository.advance(anyLong(), anyString(), anyLong())).thenReturn(1);
+        when(jobRepository.finish(anyLong(), anyString(), anyLong(), any())).thenReturn(1);
+
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost("localhost");
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        @SuppressWarnings("unchecked")
+        ObjectProvider<JavaMailSender> mailSender = mock(ObjectProvider.class);
+        when(mailSender.getIfAvailable()).thenReturn(sender);
+
+        dispatcher = new NotificationDispatcher(ticketRepository, notificationRepository, jobRepository,
+                new ObjectMapper(), mailSender, 2, 3, 1000, 1000, 3, 10, "no-reply@events.local", 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.destroy();
+    }
+
+    @Test
+    void everyHolderGetsOneMailAndOneInAppNotification() throws Exception {
+        dispatcher.submit(100L, 42L, "event.updated", ARGS, EnumSet.of(Channel.EMAIL, Channel.IN_APP));
+
+        assertTrue(smtp.waitForIncomingEmail(5000, 7));
+        verify(jobRepository, timeout(5000)).finish(eq(1L), anyString(), eq(7L), any());
+
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertEquals(7, received.length);
+        Set<String> to = new HashSet<>();
+        for (MimeMessage message : received) {
+            to.add(message.getAllRecipients()[0].toString());
+        }
+        assertEquals(7, to.size());
+        assertTrue(Arrays.stream(received).anyMatch(m -> subject(m).equals("Update: Jazz Night")));
+        verify(notificationRepository, times(3)).saveAll(any());
+    }
+
+    @Test
+    void failedPageReadIsRetriedInsteadOfDroppingTheRest() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        when(ticketRepository.findHolderPage(eq(42L), anyLong(), any())).thenAnswer(call -> {
+            if (reads.incrementAndGet() == 1) {
+                throw new QueryTimeoutException("database busy");
+            }
+            return page(call.getArgument(1), call.getArgument(2));
+        });
+
+        dispatcher.submit(100L, 42L, "event.updated", ARGS, EnumSet.of(Channel.EMAIL));
+
+        assertTrue(smtp.waitForIncomingEmail(5000, 7));
+        verify(jobRepository, timeout(5000)).finish(eq(1L), anyString(), eq(7L), any());
+        assertEquals(7, smtp.getReceivedMessages().length);
+    }
+
+    @Test
+    void staleJobIsResumedFromItsCursor() throws Exception {
+        NotificationJob stale = new NotificationJob(100L, 42L, "event.cancelled",
+                new ObjectMapper().writeValueAsString(ARGS), "EMAIL", "crashed-instance");
+        stale.setId(5L);
+        stale.setLastUserId(3L);
+        when(jobRepository.findStale(any(), any())).thenReturn(List.of(stale));
+        when(jobRepository.claim(eq(5L), anyString(), any(), any())).thenReturn(1);
+
+        dispatcher.heartbeat();
+
+        assertTrue(smtp.waitForIncomingEmail(5000, 4));
+        verify(jobRepository, timeout(5000)).finish(eq(5L), anyString(), eq(7L), any());
+        Set<String> to = new HashSet<>();
+        for (MimeMessage message : smtp.getReceivedMessages()) {
+            to.add(message.getAllRecipients()[0].toString());
+            assertEquals("Cancelled: Jazz Night", subject(message));
+        }
+        assertEquals(Set.of("holder4@example.com", "holder5@example.com", "holder6@example.com",
+                "holder7@example.com"), to);
+    }
+
+    @Test
+    void redeliveredOutboxEventStartsNothing() throws Exception {
+        doThrow(new DataIntegrityViolationException("uk_notification_jobs_outbox")).when(jobRepository).save(any());
+
+        dispatcher.submit(100L, 42L, "event.updated", ARGS, EnumSet.of(Channel.EMAIL, Channel.IN_APP));
+
+        Thread.sleep(300);
+        verify(ticketRepository, never()).findHolderPage(anyLong(), anyLong(), any());
+        assertEquals(0, smtp.getReceivedMessages().length);
+    }
+
+    private List<NotificationRecipient> page(long afterUserId, Pageable pageable) {
+        return holders.stream()
+                .filter(h -> h.userId() > afterUserId)
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private static String subject(MimeMessage message) {
+        try {
+            return message.getSubject();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
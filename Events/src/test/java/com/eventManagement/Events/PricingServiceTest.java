@@ -0,0 +1,124 @@
+package com.eventManagement.Events;
+
+import com.eventManagement.Events.Entity.Event;
+import com.eventManagement.Events.Entity.TicketTier;
+import com.eventManagement.Events.Repository.TicketTierRepository;
+import com.eventManagement.Events.Service.PricingService;
+import com.eventManagement.Events.Utills.DemandSignal;
+import com.eventManagement.Events.Utills.JwtUtil;
+import com.eventManagement.Events.Utills.PriceQuoteCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// Two instances with their own snapshots, as behind a load balancer: a quote from one is paid on the other
+class PricingServiceTest {
+
+    private TicketTier vip;
+    private TicketTierRepository tiers;
+    private PricingService instanceA;
+    private PricingService instanceB;
+
+    @BeforeEach
+    void setUp() {
+        Event event = new Event();
+        event.setId(7L);
+        vip = new TicketTier("VIP", 20.0, 100);
+        vip.setEvent(event);
+        vip.setSold(90);
+        tiers = mock(TicketTierRepository.class);
+        when(tiers.findByEvent_IdOrderByPriceAsc(7L)).thenReturn(List.of(vip));
+        when(tiers.findByEventIds(anyCollection())).thenReturn(List.of(vip));
+
+        instanceA = pricing(tiers, 120_000);
+        instanceB = pricing(tiers, 120_000);
+        // Only A has seen demand for the event, so only A reprices it (90% sold: one max-step up, to 22.0)
+        instanceA.recordDemand(7L, DemandSignal.HOLD);
+    }
+
+    @Test
+    void quoteFromOneInstanceIsHonouredByAnother() {
+        instanceA.recompute();
+        String quote = quote(instanceA);
+
+        // B has not run yet and would still charge the list price
+        assertEquals(20.0, instanceB.currentPrice(7L, "VIP", 20.0));
+        assertEquals(22.0, instanceB.priceForSale(7L, "VIP", 20.0, quote));
+        assertEquals(22.0, instanceA.priceForSale(7L, "VIP", 20.0, quote));
+    }
+
+    @Test
+    void forgedOrMismatchedQuotesAreRefused() {
+        instanceA.recompute();
+        String quote = quote(instanceA);
+        String forged = new PriceQuoteCodec(new JwtUtil()).encode(7L, "VIP", 1.0, System.currentTimeMillis() + 60_000);
+        String tampered = quote.substring(0, quote.length() - 2) + (quote.endsWith("AA") ? "BB" : "AA");
+
+        assertEquals("Invalid price quote", failure(() -> instanceB.priceForSale(8L, "VIP", 20.0, quote)));
+        assertEquals("Invalid price quote", failure(() -> instanceB.priceForSale(7L, "Standard", 20.0, quote)));
+        assertEquals("Invalid price quote", failure(() -> instanceB.priceForSale(7L, "VIP", 20.0, tampered)));
+        assertEquals("Invalid price quote", failure(() -> instanceB.priceForSale(7L, "VIP", 20.0, "not a quote")));
+        // Signed with the real key, but below min-multiplier x list price
+        assertTrue(failure(() -> instanceB.priceForSale(7L, "VIP", 20.0, forged)).startsWith("Price changed to"));
+    }
+
+    @Test
+    void expiredQuoteOrChangedListPriceNeedsANewQuote() {
+        PricingService expiring = pricing(tiers, -1);
+
+        assertEquals("Price quote expired, please confirm the current price",
+                failure(() -> instanceB.priceForSale(7L, "VIP", 20.0, quote(expiring))));
+
+        instanceA.recompute();
+        String quote = quote(instanceA);
+        // List price cut to 10 after the quote: 22 is above max-multiplier x 10
+        assertEquals("Price changed to 10.0, please confirm the new price",
+                failure(() -> instanceB.priceForSale(7L, "VIP", 10.0, quote)));
+    }
+
+    @Test
+    void quoteIsRequiredOnlyWhilePricingIsOn() {
+        assertEquals("Price quote is required", failure(() -> instanceA.priceForSale(7L, "VIP", 20.0, null)));
+
+        ReflectionTestUtils.setField(instanceA, "enabled", false);
+        assertEquals(20.0, instanceA.priceForSale(7L, "VIP", 20.0, null));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String quote(PricingService pricing) {
+        List<Map<String, Object>> tiers = (List<Map<String, Object>>) pricing.getPrices(7L).get("tiers");
+        return (String) tiers.get(0).get("quote");
+    }
+
+    private static String failure(Runnable sale) {
+        return assertThrows(RuntimeException.class, sale::run).getMessage();
+    }
+
+    // Defaults of application.properties, with pricing on
+    private static PricingService pricing(TicketTierRepository tiers, long quoteTtlMs) {
+        PricingService pricing = new PricingService(tiers, new PriceQuoteCodec(new JwtUtil()));
+        ReflectionTestUtils.setField(pricing, "enabled", true);
+        ReflectionTestUtils.setField(pricing, "bucketSeconds", 60L);
+        ReflectionTestUtils.setField(pricing, "buckets", 30);
+        ReflectionTestUtils.setField(pricing, "halfLifeBuckets", 5.0);
+        ReflectionTestUtils.setField(pricing, "holdWeight", 0.5);
+        ReflectionTestUtils.setField(pricing, "viewWeight", 0.02);
+        ReflectionTestUtils.setField(pricing, "velocityTarget", 20.0);
+        ReflectionTestUtils.setField(pricing, "velocityWeight", 0.2);
+        ReflectionTestUtils.setField(pricing, "sellThroughThreshold", 0.5);
+        ReflectionTestUtils.setField(pricing, "sellThroughWeight", 0.3);
+        ReflectionTestUtils.setField(pricing, "minMultiplier", 1.0);
+        ReflectionTestUtils.setField(pricing, "maxMultiplier", 1.5);
+        ReflectionTestUtils.setField(pricing, "maxStep", 0.1);
+        ReflectionTestUtils.setField(pricing, "rounding", 0.5);
+        ReflectionTestUtils.setField(pricing, "quoteTtlMs", quoteTtlMs);
+        return pricing;
+    }
+}
@@ -0,0 +1,157 @@
+package com.eventManagement.Events;
+
+import com.eventManagement.Events.Config.ReadWriteRoutingDataSource;
+import com.eventManagement.Events.Config.ReadWriteRoutingDataSource.Strategy;
+import com.eventManagement.Events.Config.ReadYourWritesTracker;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.*;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// Routing decisions against mocked pools (a primary and a replica); the read-your-writes pin lives in an
+// embedded Redis, shared by two routing data sources standing in for two app instances
+class ReadWriteRoutingDataSourceTest {
+
+    private static RedisServer redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate template;
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private Connection primaryConnection;
+    private Connection replicaConnection;
+    private final AtomicInteger replicaReads = new AtomicInteger();
+
+    @BeforeAll
+    static void startRedis() throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redis = new RedisServer(port);
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        template = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() throws Exception {
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        template.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        primary = mock(HikariDataSource.class);
+        replica = mock(HikariDataSource.class);
+        primaryConnection = mock(Connection.class);
+        replicaConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replica.getPoolName()).thenReturn("replica-1");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("ana@example.com", null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplica() throws SQLException {
+        ReadWriteRoutingDataSource routing = routing(60_000);
+
+        assertSame(replicaConnection, inTransaction(true, routing));
+        assertEquals(1, replicaReads.get());
+    }
+
+    @Test
+    void writesGoToThePrimaryAndPinTheWriterOnEveryInstance() throws SQLException {
+        ReadWriteRoutingDataSource instanceA = routing(60_000);
+        ReadWriteRoutingDataSource instanceB = routing(60_000);
+
+        assertSame(primaryConnection, inTransaction(false, instanceA));
+
+        assertSame(primaryConnection, inTransaction(true, instanceA));
+        assertSame(primaryConnection, inTransaction(true, instanceB));
+        assertEquals(0, replicaReads.get());
+
+        // Someone else is not pinned
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("ben@example.com", null, List.of()));
+        assertSame(replicaConnection, inTransaction(true, instanceB));
+    }
+
+    @Test
+    void pinEndsWithTheWindow() throws Exception {
+        ReadWriteRoutingDataSource routing = routing(200);
+
+        inTransaction(false, routing);
+        assertSame(primaryConnection, inTransaction(true, routing));
+
+        Thread.sleep(400);
+        assertSame(replicaConnection, inTransaction(true, routing));
+    }
+
+    @Test
+    void failingReplicaFailsOverToThePrimary() throws SQLException {
+        when(replica.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReadWriteRoutingDataSource routing = routing(60_000);
+
+        assertSame(primaryConnection, inTransaction(true, routing));
+        assertEquals(0, replicaReads.get());
+
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> replicas = (List<Map<String, Object>>) routing.getStatus().get("replicas");
+        assertEquals(false, replicas.get(0).get("healthy"));
+    }
+
+    private ReadWriteRoutingDataSource routing(long windowMs) {
+        return new ReadWriteRoutingDataSource(primary, List.of(replica), Strategy.ROUND_ROBIN,
+                new ReadYourWritesTracker(template, windowMs), replicaReads::incrementAndGet);
+    }
+
+    // Fetches a connection the way a transaction would and commits it
+    private static Connection inTransaction(boolean readOnly, ReadWriteRoutingDataSource routing) throws SQLException {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try {
+            Connection connection = routing.getConnection();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            return connection;
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+    }
+}